@@ -18,4 +18,10 @@
 
 # If you keep the line number information, uncomment this to
 # hide the original source file name.
-#-renamesourcefileattribute SourceFile
\ No newline at end of file
+#-renamesourcefileattribute SourceFile
+
+# Strip verbose and debug EchoLog calls (and their arguments) from minified builds
+-assumenosideeffects class com.example.echosign.utils.EchoLog {
+    public static void v(...);
+    public static void d(...);
+}
\ No newline at end of file
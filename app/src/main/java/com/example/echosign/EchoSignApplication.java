@@ -0,0 +1,21 @@
+package com.example.echosign;
+
+import android.app.Application;
+
+import com.example.echosign.utils.EchoLog;
+import com.example.echosign.utils.LogcatSink;
+
+/**
+ * Process-wide setup that must happen before any activity runs
+ */
+public class EchoSignApplication extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+
+        // Async logging to logcat; debug builds keep debug output, release only info and up
+        EchoLog.setSink(new LogcatSink());
+        EchoLog.setLevel(BuildConfig.DEBUG ? EchoLog.DEBUG : EchoLog.INFO);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.echosign;
+
+import com.bumptech.glide.annotation.GlideModule;
+import com.bumptech.glide.module.AppGlideModule;
+
+/**
+ * Generated-API entry point, so library modules (the animated WebP decoder
+ * used for sign clips) are registered at compile time
+ */
+@GlideModule
+public final class EchoSignGlideModule extends AppGlideModule {
+
+    @Override
+    public boolean isManifestParsingEnabled() {
+        return false;
+    }
+}
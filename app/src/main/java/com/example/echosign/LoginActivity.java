@@ -8,10 +8,13 @@ import android.widget.EditText;
 import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.echosign.utils.EchoLog;
 import com.example.echosign.utils.SessionManager;
 
 public class LoginActivity extends AppCompatActivity {
 
+    private static final String TAG = "LoginActivity";
+
     private EditText etUsername, etPassword;
     private Button btnLogin;
     private SessionManager sessionManager;
@@ -74,13 +77,12 @@ public class LoginActivity extends AppCompatActivity {
      */
     private void logCurrentStatus() {
         boolean isLoggedIn = sessionManager.isLoggedIn();
-        System.out.println("LoginActivity - Current login status: " + isLoggedIn);
+        EchoLog.d(TAG, "Current login status: {}", isLoggedIn);
 
         if (isLoggedIn) {
             // This shouldn't happen in Step 7, but log if it does
             String username = sessionManager.getUsername();
-            System.out.println("LoginActivity - User already logged in: " + username);
-            System.out.println("LoginActivity - This screen shouldn't show if user is logged in!");
+            EchoLog.w(TAG, "User already logged in, this screen shouldn't show: {}", username);
         }
     }
 }
\ No newline at end of file
@@ -3,8 +3,9 @@ package com.example.echosign;
 import android.Manifest;
 import android.content.Intent;
 import android.content.pm.PackageManager;
+import android.graphics.drawable.Animatable;
+import android.graphics.drawable.Drawable;
 import android.os.Bundle;
-import android.os.Handler;
 import android.speech.RecognitionListener;
 import android.speech.RecognizerIntent;
 import android.speech.SpeechRecognizer;
@@ -12,27 +13,48 @@ import android.view.View;
 import android.widget.Button;
 import android.widget.ImageView;
 import android.widget.ProgressBar;
+import android.widget.SeekBar;
 import android.widget.TextView;
 import android.widget.Toast;
 
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.core.app.ActivityCompat;
 import androidx.core.content.ContextCompat;
 
 import com.bumptech.glide.Glide;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.load.DataSource;
+import com.bumptech.glide.load.engine.GlideException;
+import com.bumptech.glide.request.RequestListener;
+import com.bumptech.glide.request.target.Target;
+import com.example.echosign.ui.FingerspellingView;
 import com.example.echosign.utils.ASLDictionary;
+import com.example.echosign.utils.AssetMapper;
+import com.example.echosign.utils.EchoLog;
+import com.example.echosign.utils.LatencyTracker;
 import com.example.echosign.utils.SessionManager;
+import com.example.echosign.utils.SignClip;
+import com.example.echosign.utils.SignClipManifest;
 import com.example.echosign.utils.SignMapper;
+import com.example.echosign.utils.SignPlan;
+import com.example.echosign.utils.SignPlanCompiler;
+import com.example.echosign.utils.SignPlaybackController;
+import com.example.echosign.utils.SignPrefetcher;
+import com.example.echosign.utils.SignResolution;
 import com.google.android.material.floatingactionbutton.FloatingActionButton;
 
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 public class MainActivity extends AppCompatActivity {
 
+    private static final String TAG = "MainActivity";
+
     // Header Section
     private TextView tvWelcomeUser;
     private Button btnLogout;
@@ -52,6 +74,7 @@ public class MainActivity extends AppCompatActivity {
 
     // Sign Display Area
     private ImageView ivSignAnimation;
+    private FingerspellingView fingerspellingView;
     private ProgressBar pbLoading;
     private TextView tvCurrentWord;
     private TextView tvSignDescription;
@@ -75,13 +98,36 @@ public class MainActivity extends AppCompatActivity {
 
     // Sign Mapping with ASL Gloss
     private SignMapper signMapper;
-    private List<String> wordQueue = new ArrayList<>();
-    private List<String> englishWords = new ArrayList<>();
-    private List<String> aslGlossWords = new ArrayList<>();
-    private int currentWordIndex = 0;
-    private boolean isShowingSigns = false;
-    private Handler signHandler = new Handler();
-    private Map<String, String> signAliases = new HashMap<>();
+
+    // Plan, position and timing of the signs on screen, at the user's speed (SessionManager)
+    private static final float[] PLAYBACK_SPEEDS = {0.5f, 0.75f, 1f, 1.25f, 1.5f, 2f};
+    private SignPlaybackController playbackController;
+    private SignPlaybackController.State shownState = SignPlaybackController.State.IDLE;
+    private TextView tvPlaybackSpeed;
+    private View playbackControls;
+    private SeekBar sbSignPosition;
+    private Button btnPrevSign;
+    private Button btnPauseSigns;
+    private Button btnNextSign;
+    private Button btnStopSigns;
+
+    // Speech results are translated into sign plans off the UI thread
+    private SignPlanCompiler planCompiler;
+    // Bumped per utterance; compiler results from an older one are dropped
+    private int planGeneration = 0;
+
+    // Per-stage latency from end of speech to the first sign frame
+    private static final long SPEECH_TO_PLAN_BUDGET_MS = 1000;
+    private static final long DECODE_BUDGET_MS = 250;
+    private static final String LATENCY_REPORT_FILE = "latency_report.txt";
+
+    // Clips decoded ahead of playback: current + next PREFETCH_WINDOW tokens
+    private static final int PREFETCH_WINDOW = 3;
+    private static final long PREFETCH_MAX_BYTES = 6 * 1024 * 1024;
+    private static final int SIGN_CLIP_SIZE_DP = 140;
+    private SignPrefetcher signPrefetcher;
+    private final LatencyTracker latencyTracker = new LatencyTracker();
+    private LatencyTracker.Utterance currentUtterance;
 
 
     @Override
@@ -93,11 +139,27 @@ public class MainActivity extends AppCompatActivity {
         sessionManager = new SessionManager(this);
 
         // Initialize SignMapper (now includes ASL Gloss converter and ASL Dictionary)
-        signMapper = new SignMapper(this);
+        signMapper = new SignMapper(loadDictionary(), this::findSignResource);
+        // Categories most conversations reach first; the rest load on demand
+        signMapper.preloadCategories("Greetings", "Needs", "Questions");
+        planCompiler = signMapper.newPlanCompiler(latencyTracker);
+
+        latencyTracker.setBudgetMillis(LatencyTracker.Stage.SPEECH_TO_PLAN, SPEECH_TO_PLAN_BUDGET_MS);
+        latencyTracker.setBudgetMillis(LatencyTracker.Stage.DECODE, DECODE_BUDGET_MS);
 
-        // Define sign aliases
-        signAliases.put("THANK", "THANKYOU");
-        // Add other aliases here, e.g., signAliases.put("GOODBYE", "BYE");
+        int clipSize = Math.round(SIGN_CLIP_SIZE_DP * getResources().getDisplayMetrics().density);
+        signPrefetcher = new SignPrefetcher(this, clipSize, clipSize, PREFETCH_WINDOW, PREFETCH_MAX_BYTES);
+        playbackController = new SignPlaybackController(signPrefetcher, new SignPlaybackController.Listener() {
+            @Override
+            public void onSign(int index) {
+                showSign(index);
+            }
+
+            @Override
+            public void onStateChanged(SignPlaybackController.State state) {
+                showPlaybackState(state);
+            }
+        });
 
         // Initialize all UI components
         initializeViews();
@@ -115,7 +177,38 @@ public class MainActivity extends AppCompatActivity {
         // Check microphone permission
         checkMicrophonePermission();
 
-        System.out.println("MainActivity: Step 12 - ASL Dictionary ready");
+        EchoLog.i(TAG, "Step 12 - ASL Dictionary ready");
+    }
+
+    /**
+     * Map the compiled sign dictionary and clip manifest assets generated at build time
+     */
+    private ASLDictionary loadDictionary() {
+        SignClipManifest clips;
+        try {
+            clips = new SignClipManifest(AssetMapper.map(this, SignClipManifest.ASSET_NAME));
+        } catch (IOException e) {
+            throw new IllegalStateException("Sign clip manifest asset missing: " + SignClipManifest.ASSET_NAME, e);
+        }
+        try {
+            return new ASLDictionary(AssetMapper.map(this, ASLDictionary.ASSET_NAME), clips);
+        } catch (IOException e) {
+            throw new IllegalStateException("Sign dictionary asset missing: " + ASLDictionary.ASSET_NAME, e);
+        }
+    }
+
+    /**
+     * Clip id for a sign's res/raw name from the build-time table (SignClips);
+     * called once per sign on the plan compiler thread
+     */
+    private int findSignResource(String resourceName) {
+        long resourceStart = System.nanoTime();
+        int resourceId = SignClips.resourceId(resourceName);
+        latencyTracker.recordSince(LatencyTracker.Stage.RESOURCE, resourceStart);
+        if (resourceId == 0) {
+            EchoLog.d(TAG, "No clip for {}; will be fingerspelled", resourceName);
+        }
+        return resourceId;
     }
 
     /**
@@ -141,15 +234,23 @@ public class MainActivity extends AppCompatActivity {
 
         // Sign Display Area
         ivSignAnimation = findViewById(R.id.ivSignAnimation);
+        fingerspellingView = findViewById(R.id.fingerspellingView);
         pbLoading = findViewById(R.id.pbLoading);
         tvCurrentWord = findViewById(R.id.tvCurrentWord);
         tvSignDescription = findViewById(R.id.tvSignDescription);
+        tvPlaybackSpeed = findViewById(R.id.tvPlaybackSpeed);
 
         // Control Area
         btnStart = findViewById(R.id.btnStart);
         btnStop = findViewById(R.id.btnStop);
         btnClear = findViewById(R.id.btnClear);
         btnShowSigns = findViewById(R.id.btnShowSigns);
+        playbackControls = findViewById(R.id.playbackControls);
+        sbSignPosition = findViewById(R.id.sbSignPosition);
+        btnPrevSign = findViewById(R.id.btnPrevSign);
+        btnPauseSigns = findViewById(R.id.btnPauseSigns);
+        btnNextSign = findViewById(R.id.btnNextSign);
+        btnStopSigns = findViewById(R.id.btnStopSigns);
         statusDot = findViewById(R.id.statusDot);
         tvStatus = findViewById(R.id.tvStatus);
     }
@@ -227,6 +328,7 @@ public class MainActivity extends AppCompatActivity {
 
             @Override
             public void onEndOfSpeech() {
+                currentUtterance = latencyTracker.beginUtterance();
                 runOnUiThread(() -> {
                     tvStatus.setText("Processing...");
                     statusDot.setBackgroundColor(getResources().getColor(android.R.color.holo_orange_light));
@@ -246,15 +348,23 @@ public class MainActivity extends AppCompatActivity {
                 ArrayList<String> matches = results.getStringArrayList(SpeechRecognizer.RESULTS_RECOGNITION);
                 if (matches != null && !matches.isEmpty()) {
                     String recognizedText = matches.get(0);
+                    if (currentUtterance != null) {
+                        currentUtterance.markRecognized();
+                    }
                     runOnUiThread(() -> {
                         displayRecognizedText(recognizedText);
                         updateUIForListening(false);
                         tvStatus.setText("Recognition complete");
                         statusDot.setBackgroundColor(getResources().getColor(android.R.color.holo_blue_light));
-
-                        // Process text through ASL Gloss conversion
-                        processTextWithASLGloss(recognizedText);
                     });
+
+                    // Translate on the compiler thread; the UI only renders the plan
+                    int generation = planGeneration;
+                    planCompiler.compile(recognizedText, plan -> runOnUiThread(() -> {
+                        if (generation == planGeneration) {
+                            showPlan(plan);
+                        }
+                    }));
                 }
             }
 
@@ -267,6 +377,14 @@ public class MainActivity extends AppCompatActivity {
                         tvRecognizedText.setText(partialText + " ▌");
                         tvSignDescription.setText("Processing: \"" + partialText + "\"");
                     });
+
+                    // Show gloss tokens as soon as they are final
+                    int generation = planGeneration;
+                    planCompiler.update(partialText, glossTokens -> runOnUiThread(() -> {
+                        if (generation == planGeneration) {
+                            showPartialGloss(glossTokens);
+                        }
+                    }));
                 }
             }
 
@@ -276,100 +394,73 @@ public class MainActivity extends AppCompatActivity {
     }
 
     /**
-     * Consolidates multi-word phrases in an ASL gloss list into single tokens.
-     * @param originalTokens The list of ASL gloss words.
-     * @return A new list with phrases combined.
+     * Show the gloss tokens that are final so far during partial results
      */
-    private List<String> consolidateGlossPhrases(List<String> originalTokens) {
-        List<String> processedTokens = new ArrayList<>();
-        for (int i = 0; i < originalTokens.size(); i++) {
-            // Check for "THANK YOU" phrase
-            if (i + 1 < originalTokens.size() &&
-                    originalTokens.get(i).equalsIgnoreCase("THANK") &&
-                    originalTokens.get(i + 1).equalsIgnoreCase("YOU")) {
-
-                processedTokens.add("THANKYOU");
-                i++; // Increment i to skip the next token ('YOU')
-            } else {
-                processedTokens.add(originalTokens.get(i));
-            }
-        }
-        return processedTokens;
+    private void showPartialGloss(List<String> glossTokens) {
+        tvASLGlossText.setText("ASL Gloss: " + String.join(" ", glossTokens) + " ▌");
+        tvASLGlossText.setVisibility(View.VISIBLE);
     }
 
+    /**
+     * Reset gloss queues before a new utterance; stops and drops any
+     * playback, and results still in flight for the old one are ignored
+     */
+    private void resetGlossQueues() {
+        planGeneration++;
+        planCompiler.reset();
+        playbackController.clear();
+    }
 
     /**
-     * Process text through ASL Gloss conversion
+     * Render a compiled sign plan; all translation work is already done
      */
-    private void processTextWithASLGloss(String englishText) {
-        // Clear previous queues
-        wordQueue.clear();
-        englishWords.clear();
-        aslGlossWords.clear();
-        currentWordIndex = 0;
+    private void showPlan(SignPlan plan) {
+        if (currentUtterance != null) {
+            currentUtterance.markPlanReady();
+        }
+        // Phrases like "THANK YOU" already arrive as single tokens
+        playbackController.load(plan);
 
         // Store English text
-        tvEnglishText.setText("English: " + englishText);
+        tvEnglishText.setText("English: " + plan.getEnglishText());
         tvEnglishText.setVisibility(View.VISIBLE);
 
-        // Convert English to ASL Gloss
-        String aslGloss = signMapper.processTextWithASLGloss(englishText);
-
         // Display ASL Gloss
-        tvASLGlossText.setText("ASL Gloss: " + aslGloss);
+        tvASLGlossText.setText("ASL Gloss: " + plan.getGloss());
         tvASLGlossText.setVisibility(View.VISIBLE);
 
-        // Tokenize ASL Gloss for display
-        String[] aslTokensArray = signMapper.tokenizeASLGloss(aslGloss);
-        List<String> aslTokensList = new ArrayList<>(Arrays.asList(aslTokensArray));
-
-        // Consolidate known phrases like "THANK YOU"
-        List<String> consolidatedTokens = consolidateGlossPhrases(aslTokensList);
-
-        for (String token : consolidatedTokens) {
-            wordQueue.add(token);
-            aslGlossWords.add(token);
-        }
-
-        // Tokenize English for comparison
-        String[] engTokens = englishText.split("\\s+");
-        for (String token : engTokens) {
-            englishWords.add(token);
-        }
-
         // Update UI to show ASL Gloss word count
-        int englishCount = englishWords.size();
-        int aslCount = aslGlossWords.size();
-        tvSignDescription.setText("ASL Gloss: " + aslCount + " words (from " + englishCount + " English)");
+        tvSignDescription.setText("ASL Gloss: " + plan.size() + " words (from "
+                + plan.getEnglishWordCount() + " English)");
 
         // Enable the "Show Signs" button
         btnShowSigns.setEnabled(true);
         btnShowSigns.setBackgroundColor(getResources().getColor(android.R.color.holo_purple));
 
         // Log for debugging
-        System.out.println("ASL Gloss Conversion");
-        System.out.println("English: " + englishText);
-        System.out.println("Original ASL Gloss tokens: " + aslTokensList);
-        System.out.println("Consolidated ASL Gloss tokens: " + wordQueue);
+        EchoLog.d(TAG, "ASL Gloss Conversion - English: {} -> tokens: {}", plan.getEnglishText(), plan.getTokens());
+        if (EchoLog.isLoggable(EchoLog.DEBUG)) {
+            EchoLog.d(TAG, "{}", signMapper.getCacheStats());
+        }
 
 
         // If there are words, show first word preview
-        if (!wordQueue.isEmpty()) {
-            showWordPreview(wordQueue.get(0));
+        if (!plan.isEmpty()) {
+            showWordPreview(plan.getToken(0), plan.getResolution(0));
         }
     }
 
     /**
      * Show preview of an ASL Gloss word
      */
-    private void showWordPreview(String glossWord) {
+    private void showWordPreview(String glossWord, SignResolution resolution) {
         // Clear any previous GIF
         Glide.with(this).clear(ivSignAnimation);
         ivSignAnimation.setImageResource(R.drawable.sign_language_placeholder);
 
         // Check if word has a sign mapping
-        if (signMapper.hasSignForGlossWord(glossWord)) {
-            String signInfo = signMapper.getSignInfo(glossWord);
+        if (resolution.hasSign()) {
+            String signInfo = resolution.getInfo();
             tvCurrentWord.setText(glossWord);
             tvCurrentWord.setVisibility(View.VISIBLE);
             tvSignDescription.setText("ASL: " + glossWord + " → " + signInfo);
@@ -390,58 +481,104 @@ public class MainActivity extends AppCompatActivity {
     }
 
     /**
-     * Display signs sequentially
+     * Display signs sequentially (again, after a finished sequence)
      */
     private void startShowingSigns() {
-        if (wordQueue.isEmpty() || isShowingSigns) {
+        if (!playbackController.hasSigns() || playbackController.isActive()) {
             return;
         }
 
-        isShowingSigns = true;
-        currentWordIndex = 0;
-
-        // Disable controls during animation
-        btnStart.setEnabled(false);
-        btnStop.setEnabled(false);
-        btnClear.setEnabled(false);
-        btnShowSigns.setEnabled(false);
-
-        // Update status
-        tvStatus.setText("Showing ASL signs...");
-        statusDot.setBackgroundColor(getResources().getColor(android.R.color.holo_purple));
+        // Each token is shown for its clip's length at the chosen speed
+        playbackController.setSpeed(sessionManager.getPlaybackSpeed());
+        if (playbackController.getState() == SignPlaybackController.State.FINISHED) {
+            playbackController.replay();
+        } else {
+            playbackController.play();
+        }
+    }
 
-        // Start the sequence
-        showNextSign();
+    /**
+     * Controls and status for a playback state. Listening and clearing stay
+     * off while signs play; once paused they are back on (both drop the
+     * playback first). The playback controls are on while signs are on screen.
+     */
+    private void showPlaybackState(SignPlaybackController.State state) {
+        boolean active = playbackController.isActive();
+        boolean playing = state == SignPlaybackController.State.PLAYING;
+        btnStart.setEnabled(!playing && !isListening);
+        btnStop.setEnabled(!active && isListening);
+        btnClear.setEnabled(!playing && !isListening);
+        btnShowSigns.setEnabled(!active && !isListening && playbackController.hasSigns());
+        playbackControls.setVisibility(active ? View.VISIBLE : View.GONE);
+        btnPauseSigns.setText(state == SignPlaybackController.State.PAUSED ? "Resume" : "Pause");
+
+        switch (state) {
+            case PLAYING:
+                tvStatus.setText("Showing ASL signs...");
+                statusDot.setBackgroundColor(getResources().getColor(android.R.color.holo_purple));
+                sbSignPosition.setMax(playbackController.getPlan().size() - 1);
+                setSignAnimationRunning(true);
+                break;
+            case PAUSED:
+                tvStatus.setText("Paused at sign " + (playbackController.getIndex() + 1)
+                        + " of " + playbackController.getPlan().size());
+                statusDot.setBackgroundColor(getResources().getColor(android.R.color.holo_orange_light));
+                sbSignPosition.setMax(playbackController.getPlan().size() - 1);
+                setSignAnimationRunning(false);
+                break;
+            case FINISHED:
+                finishShowingSigns();
+                break;
+            case READY:
+                // Stopped by the user; a newly loaded plan also lands here
+                if (shownState == SignPlaybackController.State.PLAYING
+                        || shownState == SignPlaybackController.State.PAUSED) {
+                    resetSignDisplay();
+                    tvStatus.setText("Sign playback stopped");
+                    statusDot.setBackgroundColor(getResources().getColor(android.R.color.darker_gray));
+                }
+                break;
+            default:
+                break;
+        }
+        shownState = state;
     }
 
     /**
-     * Show next ASL sign in the sequence with real sign descriptions
+     * Freeze or continue the clip or fingerspelling on screen
      */
-    private void showNextSign() {
-        if (currentWordIndex >= wordQueue.size()) {
-            // All signs shown
-            finishShowingSigns();
-            return;
+    private void setSignAnimationRunning(boolean running) {
+        Drawable drawable = ivSignAnimation.getDrawable();
+        if (drawable instanceof Animatable) {
+            if (running) {
+                ((Animatable) drawable).start();
+            } else {
+                ((Animatable) drawable).stop();
+            }
+        }
+        if (running) {
+            fingerspellingView.resume();
+        } else {
+            fingerspellingView.pause();
         }
+    }
 
-        String currentGlossWord = wordQueue.get(currentWordIndex);
+    /**
+     * Show one ASL sign of the sequence with real sign descriptions;
+     * the playback controller decides when the next one is due
+     */
+    private void showSign(int index) {
+        SignPlan plan = playbackController.getPlan();
+        String currentGlossWord = plan.getToken(index);
+        sbSignPosition.setProgress(index);
 
         // Update display with ASL Gloss word
         tvCurrentWord.setText(currentGlossWord);
         tvCurrentWord.setVisibility(View.VISIBLE);
 
         // Get detailed sign information from ASL Dictionary
-        ASLDictionary.ASLSign signDetails = signMapper.getSignDetails(currentGlossWord);
-
-        // If no direct sign found, check for an alias
-        if (signDetails == null) {
-            String alias = signAliases.get(currentGlossWord.toUpperCase());
-            if (alias != null) {
-                signDetails = signMapper.getSignDetails(alias);
-                System.out.println("Used alias for '" + currentGlossWord + "', showing sign for '" + alias + "'");
-            }
-        }
-
+        // Sign was resolved (including aliases) when the plan was built
+        ASLDictionary.ASLSign signDetails = plan.getSign(index);
 
         if (signDetails != null) {
             // Word has a real ASL sign in dictionary
@@ -452,38 +589,51 @@ public class MainActivity extends AppCompatActivity {
                     "\n" + signDescription +
                     "\nCategory: " + category);
 
-            // Load GIF animation from res/raw
+            // Load GIF animation from res/raw (id looked up when the plan was compiled)
             String gifResourceName = signDetails.getGifResource();
-            int resourceId = getResources().getIdentifier(gifResourceName, "raw", getPackageName());
+            int resourceId = plan.getResourceId(index);
 
             if (resourceId != 0) {
                 // GIF resource exists, load it with Glide
+                hideFingerspelling();
                 ivSignAnimation.setBackgroundColor(getResources().getColor(android.R.color.transparent));
-                Glide.with(MainActivity.this)
-                        .asGif()
-                        .load(resourceId)
+                long decodeStart = System.nanoTime();
+                SignClip clip = plan.getClip(index);
+                signPrefetcher.request(resourceId)
+                        .thumbnail(clipThumbnail(clip))
+                        .listener(new RequestListener<Drawable>() {
+                            @Override
+                            public boolean onLoadFailed(@Nullable GlideException e, Object model,
+                                                        Target<Drawable> target, boolean isFirstResource) {
+                                return false;
+                            }
+
+                            @Override
+                            public boolean onResourceReady(Drawable resource, Object model,
+                                                           Target<Drawable> target, DataSource dataSource,
+                                                           boolean isFirstResource) {
+                                latencyTracker.recordSince(LatencyTracker.Stage.DECODE, decodeStart);
+                                EchoLog.v(TAG, "Clip {} from {}", gifResourceName, dataSource);
+                                if (currentUtterance != null) {
+                                    currentUtterance.markFirstSign();
+                                }
+                                return false;
+                            }
+                        })
                         .into(ivSignAnimation);
 
                 // Log detailed information
-                System.out.println("Step 12: Showing real ASL sign for: " + currentGlossWord);
-                System.out.println("  Description: " + signDescription);
-                System.out.println("  Category: " + category);
-                System.out.println("  Loaded GIF from raw: " + gifResourceName);
+                EchoLog.v(TAG, "Step 12: Showing real ASL sign for: {} ({})", currentGlossWord, category);
+                EchoLog.v(TAG, "  Loaded clip from raw: {} ({})", gifResourceName, clip);
 
             } else {
                 // Fallback to fingerspelling if GIF not found
                 tvSignDescription.setText("Fingerspelling: " + currentGlossWord +
                         "\n(Animation not available)");
 
-                // Clear previous animation and show placeholder
-                Glide.with(MainActivity.this).clear(ivSignAnimation);
-                ivSignAnimation.setImageResource(R.drawable.sign_language_placeholder);
-                ivSignAnimation.setBackgroundColor(getResources().getColor(android.R.color.holo_orange_light));
-
-                // Visual feedback for fingerspelling
-                ivSignAnimation.animate().rotationBy(360).setDuration(800).start();
+                showFingerspelling(plan.getFingerspelling(index));
 
-                System.out.println("Step 12: GIF not found for: " + currentGlossWord + ". Fingerspelling.");
+                EchoLog.d(TAG, "Step 12: GIF not found for: {}. Fingerspelling.", currentGlossWord);
             }
 
         } else {
@@ -491,56 +641,75 @@ public class MainActivity extends AppCompatActivity {
             tvSignDescription.setText("Fingerspelling: " + currentGlossWord +
                     "\n(No ASL sign in dictionary)");
 
-            // Clear previous animation and show placeholder
-            Glide.with(MainActivity.this).clear(ivSignAnimation);
-            ivSignAnimation.setImageResource(R.drawable.sign_language_placeholder);
-            ivSignAnimation.setBackgroundColor(getResources().getColor(android.R.color.holo_orange_light));
-
-            // Visual feedback for fingerspelling (like typing letters)
-            ivSignAnimation.animate()
-                    .rotationBy(360)
-                    .setDuration(800)
-                    .start();
+            showFingerspelling(plan.getFingerspelling(index));
 
-            System.out.println("Step 12: Fingerspelling word: " + currentGlossWord);
+            EchoLog.v(TAG, "Step 12: Fingerspelling word: {}", currentGlossWord);
         }
 
         // Log progress
-        System.out.println("ASL Sign " + (currentWordIndex + 1) + " of " + wordQueue.size() + ": " + currentGlossWord);
+        EchoLog.v(TAG, "ASL Sign {} of {}: {}", index + 1, plan.size(), currentGlossWord);
+    }
 
-        // Schedule next sign after delay
-        currentWordIndex++;
-        signHandler.postDelayed(this::showNextSign, 2000); // 2 seconds per sign for reading
+    /**
+     * First frame from the clip manifest, shown while the clip decodes.
+     * Decoded by Glide off the main thread; skipped when the clip is cached.
+     */
+    @Nullable
+    private RequestBuilder<Drawable> clipThumbnail(@Nullable SignClip clip) {
+        if (clip == null || !clip.hasThumbnail()) {
+            return null;
+        }
+        return Glide.with(this).load(clip.getThumbnail());
+    }
+
+    /**
+     * Spell a word from the letter atlas in place of the sign clip
+     */
+    private void showFingerspelling(String letters) {
+        Glide.with(MainActivity.this).clear(ivSignAnimation);
+        ivSignAnimation.setImageDrawable(null);
+        ivSignAnimation.setBackgroundColor(getResources().getColor(android.R.color.holo_orange_light));
+        fingerspellingView.setVisibility(View.VISIBLE);
+        fingerspellingView.setLettersPerSecond(
+                FingerspellingView.DEFAULT_LETTERS_PER_SECOND * sessionManager.getPlaybackSpeed());
+        fingerspellingView.spell(letters, null);
+    }
+
+    private void hideFingerspelling() {
+        fingerspellingView.stop();
+        fingerspellingView.setVisibility(View.GONE);
     }
 
     /**
      * Finish showing signs sequence
      */
     private void finishShowingSigns() {
-        isShowingSigns = false;
-
-        // Re-enable controls
-        updateUIForListening(false);
-        btnShowSigns.setEnabled(true);
+        int signCount = playbackController.getPlan().size();
 
         // Update status
         tvStatus.setText("ASL sequence complete");
         statusDot.setBackgroundColor(getResources().getColor(android.R.color.holo_green_dark));
-        tvSignDescription.setText(wordQueue.size() + " ASL signs displayed");
+        resetSignDisplay();
+        tvSignDescription.setText(signCount + " ASL signs displayed");
 
-        // Reset animation
+        // Show completion message
+        Toast.makeText(this, "ASL sign sequence completed!", Toast.LENGTH_SHORT).show();
+
+        EchoLog.d(TAG, "ASL sign sequence completed for {} words", signCount);
+    }
+
+    /**
+     * Back to the idle sign card; clearing the view also ends the clip's decoding
+     */
+    private void resetSignDisplay() {
         tvCurrentWord.setVisibility(View.GONE);
+        hideFingerspelling();
         Glide.with(this).clear(ivSignAnimation);
         ivSignAnimation.setImageResource(R.drawable.sign_language_placeholder);
         ivSignAnimation.setBackgroundColor(getResources().getColor(android.R.color.darker_gray));
         ivSignAnimation.setScaleX(1.0f);
         ivSignAnimation.setScaleY(1.0f);
         ivSignAnimation.setRotation(0f);
-
-        // Show completion message
-        Toast.makeText(this, "ASL sign sequence completed!", Toast.LENGTH_SHORT).show();
-
-        System.out.println("ASL sign sequence completed for " + wordQueue.size() + " words");
     }
 
     /**
@@ -574,6 +743,20 @@ public class MainActivity extends AppCompatActivity {
             startActivity(intent);
         });
 
+        // Debug builds: long-press the status line for the latency report,
+        // long-press the welcome line to dump the whole dictionary to the log
+        if (BuildConfig.DEBUG) {
+            tvStatus.setOnLongClickListener(v -> {
+                showLatencyReport();
+                return true;
+            });
+            tvWelcomeUser.setOnLongClickListener(v -> {
+                signMapper.logDictionaryDump();
+                Toast.makeText(this, "Dictionary written to log", Toast.LENGTH_SHORT).show();
+                return true;
+            });
+        }
+
         // Start button
         btnStart.setOnClickListener(v -> startSpeechRecognition());
 
@@ -583,9 +766,39 @@ public class MainActivity extends AppCompatActivity {
         // Clear button
         btnClear.setOnClickListener(v -> clearRecognizedText());
 
+        // Playback speed: tap to step through PLAYBACK_SPEEDS
+        showPlaybackSpeed();
+        tvPlaybackSpeed.setOnClickListener(v -> cyclePlaybackSpeed());
+
+        // Playback controls, available while signs are on screen
+        btnPauseSigns.setOnClickListener(v -> {
+            if (playbackController.getState() == SignPlaybackController.State.PLAYING) {
+                playbackController.pause();
+            } else {
+                playbackController.play();
+            }
+        });
+        btnPrevSign.setOnClickListener(v -> playbackController.previous());
+        btnNextSign.setOnClickListener(v -> playbackController.next());
+        btnStopSigns.setOnClickListener(v -> playbackController.stop());
+        sbSignPosition.setOnSeekBarChangeListener(new SeekBar.OnSeekBarChangeListener() {
+            @Override
+            public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+                if (fromUser && playbackController.isActive() && progress != playbackController.getIndex()) {
+                    playbackController.seekTo(progress);
+                }
+            }
+
+            @Override
+            public void onStartTrackingTouch(SeekBar seekBar) {}
+
+            @Override
+            public void onStopTrackingTouch(SeekBar seekBar) {}
+        });
+
         // Show Signs button
         btnShowSigns.setOnClickListener(v -> {
-            if (!wordQueue.isEmpty()) {
+            if (playbackController.hasSigns()) {
                 startShowingSigns();
             } else {
                 Toast.makeText(this, "No ASL words to show. Speak first!", Toast.LENGTH_SHORT).show();
@@ -598,6 +811,55 @@ public class MainActivity extends AppCompatActivity {
         btnShowSigns.setBackgroundColor(getResources().getColor(android.R.color.darker_gray));
     }
 
+    /**
+     * Next speed after the saved one, wrapping around; applies from the next sequence
+     */
+    private void cyclePlaybackSpeed() {
+        float current = sessionManager.getPlaybackSpeed();
+        float next = PLAYBACK_SPEEDS[0];
+        for (float speed : PLAYBACK_SPEEDS) {
+            if (speed > current) {
+                next = speed;
+                break;
+            }
+        }
+        sessionManager.setPlaybackSpeed(next);
+        showPlaybackSpeed();
+        EchoLog.d(TAG, "Playback speed set to {}x", next);
+    }
+
+    private void showPlaybackSpeed() {
+        float speed = sessionManager.getPlaybackSpeed();
+        tvPlaybackSpeed.setText((speed == (int) speed ? String.valueOf((int) speed) : String.valueOf(speed)) + "x");
+    }
+
+    /**
+     * Debug overlay with per-stage latency histograms, optionally saved to a file
+     */
+    private void showLatencyReport() {
+        String report = latencyTracker.getReport() + "\n" + signMapper.getCacheStats();
+        new AlertDialog.Builder(this)
+                .setTitle("Latency report")
+                .setMessage(report)
+                .setPositiveButton("Save", (dialog, which) -> saveLatencyReport(report))
+                .setNeutralButton("Reset", (dialog, which) -> latencyTracker.reset())
+                .setNegativeButton("Close", null)
+                .show();
+    }
+
+    /**
+     * Write the latency report to app storage for pulling off the device
+     */
+    private void saveLatencyReport(String report) {
+        File file = new File(getFilesDir(), LATENCY_REPORT_FILE);
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(report);
+            Toast.makeText(this, "Saved " + file.getAbsolutePath(), Toast.LENGTH_SHORT).show();
+        } catch (IOException e) {
+            Toast.makeText(this, "Could not save report: " + e.getMessage(), Toast.LENGTH_SHORT).show();
+        }
+    }
+
     /**
      * Check and request microphone permission
      */
@@ -638,6 +900,7 @@ public class MainActivity extends AppCompatActivity {
 
         if (!isListening) {
             try {
+                resetGlossQueues();
                 speechRecognizer.startListening(speechIntent);
                 isListening = true;
                 updateUIForListening(true);
@@ -677,21 +940,12 @@ public class MainActivity extends AppCompatActivity {
         tvSignDescription.setText("Ready for English speech input");
 
         // Clear all queues
-        wordQueue.clear();
-        englishWords.clear();
-        aslGlossWords.clear();
-        currentWordIndex = 0;
+        resetGlossQueues();
         btnShowSigns.setEnabled(false);
         btnShowSigns.setBackgroundColor(getResources().getColor(android.R.color.darker_gray));
-        tvCurrentWord.setVisibility(View.GONE);
 
         // Reset animation
-        Glide.with(this).clear(ivSignAnimation);
-        ivSignAnimation.setImageResource(R.drawable.sign_language_placeholder);
-        ivSignAnimation.setBackgroundColor(getResources().getColor(android.R.color.darker_gray));
-        ivSignAnimation.setScaleX(1.0f);
-        ivSignAnimation.setScaleY(1.0f);
-        ivSignAnimation.setRotation(0f);
+        resetSignDisplay();
 
         Toast.makeText(this, "Text and ASL queue cleared", Toast.LENGTH_SHORT).show();
     }
@@ -715,10 +969,11 @@ public class MainActivity extends AppCompatActivity {
     private void updateUIForListening(boolean listening) {
         isListening = listening;
 
-        btnStart.setEnabled(!listening);
+        boolean playing = playbackController.getState() == SignPlaybackController.State.PLAYING;
+        btnStart.setEnabled(!listening && !playing);
         btnStop.setEnabled(listening);
-        btnClear.setEnabled(!listening && !isShowingSigns);
-        btnShowSigns.setEnabled(!listening && !isShowingSigns && !wordQueue.isEmpty());
+        btnClear.setEnabled(!listening && !playing);
+        btnShowSigns.setEnabled(!listening && !playbackController.isActive() && playbackController.hasSigns());
 
         if (listening) {
             tvStatus.setText("Listening English...");
@@ -728,7 +983,7 @@ public class MainActivity extends AppCompatActivity {
         } else {
             tvStatus.setText("Ready");
             statusDot.setBackgroundColor(getResources().getColor(android.R.color.darker_gray));
-            if (!isShowingSigns) {
+            if (!playbackController.isActive()) {
                 tvCurrentWord.setVisibility(View.GONE);
             }
         }
@@ -761,7 +1016,6 @@ public class MainActivity extends AppCompatActivity {
     private void logoutUser() {
         if (isListening) stopSpeechRecognition();
 
-        String username = sessionManager.getUsername();
         sessionManager.logoutUser();
 
         Intent intent = new Intent(MainActivity.this, LoginActivity.class);
@@ -775,7 +1029,15 @@ public class MainActivity extends AppCompatActivity {
         if (speechRecognizer != null) {
             speechRecognizer.destroy();
         }
-        signHandler.removeCallbacksAndMessages(null);
+        planCompiler.shutdown();
+        playbackController.clear();
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        // No decoding for signs nobody is watching; Resume picks up from here
+        playbackController.pause();
     }
 
     @Override
@@ -5,10 +5,13 @@ import android.os.Bundle;
 import android.os.Handler;
 import androidx.appcompat.app.AppCompatActivity;
 
+import com.example.echosign.utils.EchoLog;
 import com.example.echosign.utils.SessionManager;
 
 public class SplashActivity extends AppCompatActivity {
 
+    private static final String TAG = "SplashActivity";
+
     private static final int SPLASH_DELAY = 1500; // 1.5 seconds
     private SessionManager sessionManager;
 
@@ -38,20 +41,18 @@ public class SplashActivity extends AppCompatActivity {
                 String username = sessionManager.getUsername();
 
                 // Log for debugging
-                System.out.println("=== SPLASH ACTIVITY ===");
-                System.out.println("Login Status: " + isLoggedIn);
-                System.out.println("Username: " + (username != null ? username : "null"));
+                EchoLog.d(TAG, "Login Status: {}, Username: {}", isLoggedIn, username);
 
                 Intent intent;
 
                 // Step 7.3: Conditional navigation
                 if (isLoggedIn) {
                     // User is logged in → Skip Login screen
-                    System.out.println("User is logged in. Redirecting to MainActivity...");
+                    EchoLog.d(TAG, "User is logged in. Redirecting to MainActivity...");
                     intent = new Intent(SplashActivity.this, MainActivity.class);
                 } else {
                     // User is not logged in → Show Login screen
-                    System.out.println("User is NOT logged in. Redirecting to LoginActivity...");
+                    EchoLog.d(TAG, "User is NOT logged in. Redirecting to LoginActivity...");
                     intent = new Intent(SplashActivity.this, LoginActivity.class);
                 }
 
@@ -0,0 +1,158 @@
+package com.example.echosign.ui;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Rect;
+import android.util.AttributeSet;
+import android.view.View;
+
+import com.example.echosign.R;
+import com.example.echosign.utils.Fingerspelling;
+import com.example.echosign.utils.SignPlan;
+
+/**
+ * Spells a word letter by letter from the fingerspelling sprite atlas
+ * (res/drawable-nodpi/asl_fingerspelling_atlas.png, laid out as described in
+ * Fingerspelling). The atlas is decoded once per process and shared by every
+ * view; drawing a letter is one bitmap blit of its cell.
+ */
+public class FingerspellingView extends View {
+
+    public static final float DEFAULT_LETTERS_PER_SECOND = 1000f / SignPlan.FINGERSPELL_LETTER_MS;
+
+    private static Bitmap atlas;
+
+    private final Paint paint = new Paint(Paint.FILTER_BITMAP_FLAG);
+    private final Rect source = new Rect();
+    private final Rect destination = new Rect();
+
+    private float lettersPerSecond = DEFAULT_LETTERS_PER_SECOND;
+    private int[] cells = new int[0];
+    private int position = -1;
+    private Runnable onFinished;
+
+    private final Runnable advance = new Runnable() {
+        @Override
+        public void run() {
+            if (position + 1 < cells.length) {
+                position++;
+                invalidate();
+                postDelayed(this, letterMillis());
+            } else {
+                Runnable finished = onFinished;
+                onFinished = null;
+                if (finished != null) {
+                    finished.run();
+                }
+            }
+        }
+    };
+
+    public FingerspellingView(Context context) {
+        this(context, null);
+    }
+
+    public FingerspellingView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+    }
+
+    /**
+     * Spelling speed; applies from the next letter
+     */
+    public void setLettersPerSecond(float lettersPerSecond) {
+        if (lettersPerSecond <= 0) {
+            throw new IllegalArgumentException("lettersPerSecond must be positive");
+        }
+        this.lettersPerSecond = lettersPerSecond;
+    }
+
+    public float getLettersPerSecond() {
+        return lettersPerSecond;
+    }
+
+    /**
+     * Start spelling a word, replacing any word in progress; onFinished
+     * (may be null) runs after the last letter has been shown
+     */
+    public void spell(String word, Runnable onFinished) {
+        removeCallbacks(advance);
+        this.cells = Fingerspelling.expand(word);
+        this.position = -1;
+        this.onFinished = onFinished;
+        advance.run();
+    }
+
+    /**
+     * Hold the current letter; resume() continues with the next one
+     */
+    public void pause() {
+        removeCallbacks(advance);
+    }
+
+    public void resume() {
+        removeCallbacks(advance);
+        if (position >= 0) {
+            postDelayed(advance, letterMillis());
+        }
+    }
+
+    /**
+     * Stop spelling and clear the view
+     */
+    public void stop() {
+        removeCallbacks(advance);
+        cells = new int[0];
+        position = -1;
+        onFinished = null;
+        invalidate();
+    }
+
+    private long letterMillis() {
+        return Math.round(1000 / lettersPerSecond);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        removeCallbacks(advance);
+        super.onDetachedFromWindow();
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (position < 0 || position >= cells.length) {
+            return;
+        }
+
+        Bitmap sprites = atlas(getContext());
+        int cellWidth = sprites.getWidth() / Fingerspelling.ATLAS_COLUMNS;
+        int cellHeight = sprites.getHeight() / Fingerspelling.ATLAS_ROWS;
+        int cell = cells[position];
+        int left = Fingerspelling.columnOf(cell) * cellWidth;
+        int top = Fingerspelling.rowOf(cell) * cellHeight;
+        source.set(left, top, left + cellWidth, top + cellHeight);
+
+        // Largest square that fits the content area, centered
+        int width = getWidth() - getPaddingLeft() - getPaddingRight();
+        int height = getHeight() - getPaddingTop() - getPaddingBottom();
+        int size = Math.min(width, height);
+        int x = getPaddingLeft() + (width - size) / 2;
+        int y = getPaddingTop() + (height - size) / 2;
+        destination.set(x, y, x + size, y + size);
+
+        canvas.drawBitmap(sprites, source, destination, paint);
+    }
+
+    private static synchronized Bitmap atlas(Context context) {
+        if (atlas == null) {
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inScaled = false;
+            atlas = BitmapFactory.decodeResource(context.getApplicationContext().getResources(),
+                    R.drawable.asl_fingerspelling_atlas, options);
+        }
+        return atlas;
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.echosign.utils;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Memory-maps uncompressed assets (see noCompress in app/build.gradle)
+ */
+public final class AssetMapper {
+
+    private AssetMapper() {
+    }
+
+    /**
+     * Read-only mapping of an asset straight out of the APK; pages are only
+     * loaded when touched, so the cost does not grow with the asset size
+     */
+    public static ByteBuffer map(Context context, String assetName) throws IOException {
+        try (AssetFileDescriptor descriptor = context.getAssets().openFd(assetName);
+             FileInputStream in = descriptor.createInputStream()) {
+            return in.getChannel().map(FileChannel.MapMode.READ_ONLY,
+                    descriptor.getStartOffset(), descriptor.getDeclaredLength());
+        }
+    }
+}
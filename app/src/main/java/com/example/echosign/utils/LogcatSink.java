@@ -0,0 +1,17 @@
+package com.example.echosign.utils;
+
+import android.util.Log;
+
+/**
+ * EchoLog sink that forwards drained records to logcat
+ */
+public class LogcatSink implements EchoLog.Sink {
+
+    @Override
+    public void write(int level, String tag, String message, Throwable error) {
+        if (error != null) {
+            message = message + '\n' + Log.getStackTraceString(error);
+        }
+        Log.println(level, tag, message);
+    }
+}
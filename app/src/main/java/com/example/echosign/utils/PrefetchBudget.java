@@ -0,0 +1,58 @@
+package com.example.echosign.utils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Byte cap bookkeeping for SignPrefetcher: which clips were requested and
+ * how many bytes are still loading. One clip is always admitted, however
+ * large, so playback never stalls. Free of Android types so it runs in
+ * local unit tests.
+ */
+final class PrefetchBudget {
+
+    private final long maxBytesInFlight;
+    private final Set<Integer> requested = new HashSet<>();
+    private int clipsInFlight = 0;
+    private long bytesInFlight = 0;
+
+    PrefetchBudget(long maxBytesInFlight) {
+        this.maxBytesInFlight = maxBytesInFlight;
+    }
+
+    boolean isRequested(int resourceId) {
+        return requested.contains(resourceId);
+    }
+
+    /**
+     * Reserve room for a clip; false when it would push the clips in flight
+     * over the cap
+     */
+    boolean admit(int resourceId, long bytes) {
+        if (clipsInFlight > 0 && bytesInFlight + bytes > maxBytesInFlight) {
+            return false;
+        }
+        requested.add(resourceId);
+        clipsInFlight++;
+        bytesInFlight += bytes;
+        return true;
+    }
+
+    /**
+     * An admitted clip finished loading (or failed)
+     */
+    void release(long bytes) {
+        clipsInFlight--;
+        bytesInFlight -= bytes;
+    }
+
+    void clear() {
+        requested.clear();
+        clipsInFlight = 0;
+        bytesInFlight = 0;
+    }
+
+    long getBytesInFlight() {
+        return bytesInFlight;
+    }
+}
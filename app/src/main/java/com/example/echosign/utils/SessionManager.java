@@ -5,6 +5,8 @@ import android.content.SharedPreferences;
 
 public class SessionManager {
 
+    private static final String TAG = "SessionManager";
+
     private SharedPreferences sharedPreferences;
     private SharedPreferences.Editor editor;
     private Context context;
@@ -20,6 +22,7 @@ public class SessionManager {
     private static final String KEY_SIGN_MODE = "signMode";
     private static final String KEY_CAPTIONS_ENABLED = "captionsEnabled";
     private static final String KEY_USAGE_PURPOSE = "usagePurpose";
+    private static final String KEY_PLAYBACK_SPEED = "playbackSpeed";
 
 
     // Constructor
@@ -41,8 +44,7 @@ public class SessionManager {
         // Commit changes
         editor.apply();
 
-        System.out.println("SessionManager: Login session CREATED for: " + username);
-        System.out.println("SessionManager: isLoggedIn = true");
+        EchoLog.d(TAG, "Login session CREATED for: {}", username);
     }
 
     /**
@@ -50,7 +52,7 @@ public class SessionManager {
      */
     public boolean isLoggedIn() {
         boolean status = sharedPreferences.getBoolean(KEY_IS_LOGGED_IN, false);
-        System.out.println("SessionManager: Checking login status = " + status);
+        EchoLog.v(TAG, "Checking login status = {}", status);
         return status;
     }
 
@@ -59,7 +61,7 @@ public class SessionManager {
      */
     public String getUsername() {
         String username = sharedPreferences.getString(KEY_USERNAME, null);
-        System.out.println("SessionManager: Retrieved username = " + username);
+        EchoLog.v(TAG, "Retrieved username = {}", username);
         return username;
     }
 
@@ -101,6 +103,25 @@ public class SessionManager {
         return sharedPreferences.getString(KEY_USAGE_PURPOSE, "Learning"); // Default to Learning
     }
 
+    /**
+     * Sign playback speed multiplier; 1 plays each clip for its own length.
+     */
+    public float getPlaybackSpeed() {
+        return clampSpeed(sharedPreferences.getFloat(KEY_PLAYBACK_SPEED, 1f)); // Default to 1x
+    }
+
+    /**
+     * Save the sign playback speed, limited to what SignTimeline accepts.
+     */
+    public void setPlaybackSpeed(float speed) {
+        editor.putFloat(KEY_PLAYBACK_SPEED, clampSpeed(speed));
+        editor.apply();
+    }
+
+    private static float clampSpeed(float speed) {
+        return Math.max(SignTimeline.MIN_SPEED, Math.min(SignTimeline.MAX_SPEED, speed));
+    }
+
     /**
      * Mark the one-time setup as complete.
      */
@@ -127,8 +148,7 @@ public class SessionManager {
         editor.clear();
         editor.apply();
 
-        System.out.println("SessionManager: User LOGGED OUT: " + username);
-        System.out.println("SessionManager: All session data cleared");
+        EchoLog.d(TAG, "User LOGGED OUT: {}, all session data cleared", username);
     }
 
     /**
@@ -142,6 +162,7 @@ public class SessionManager {
         String signMode = getSignMode();
         boolean captionsEnabled = areCaptionsEnabled();
         String usagePurpose = getUsagePurpose();
+        float playbackSpeed = getPlaybackSpeed();
 
         return "isLoggedIn: " + isLoggedIn +
                 "\\nUsername: " + username +
@@ -149,6 +170,7 @@ public class SessionManager {
                 "\\nSetup Complete: " + setupComplete +
                 "\\nSign Mode: " + signMode +
                 "\\nCaptions Enabled: " + captionsEnabled +
-                "\\nUsage Purpose: " + usagePurpose;
+                "\\nUsage Purpose: " + usagePurpose +
+                "\\nPlayback Speed: " + playbackSpeed + "x";
     }
 }
\ No newline at end of file
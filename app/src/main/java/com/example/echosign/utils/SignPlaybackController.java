@@ -0,0 +1,243 @@
+package com.example.echosign.utils;
+
+/**
+ * Plays one SignPlan at a time: owns the plan, the position in it, the
+ * vsync scheduler and the clip prefetcher, so screens only render what it
+ * reports. States and the calls that move between them:
+ *
+ *   IDLE     -load-> READY
+ *   READY    -play-> PLAYING
+ *   PLAYING  -pause-> PAUSED, -finish-> FINISHED
+ *   PAUSED   -play-> PLAYING
+ *   FINISHED -play-> PLAYING (replay from the first token)
+ *   any plan -seekTo-> PLAYING (was playing) or PAUSED
+ *   any plan -stop-> READY, -clear-> IDLE
+ *
+ * stop() and clear() cancel clip decodes still in flight right away; the
+ * listener is told to release the clip on screen through onStateChanged.
+ * Main thread only.
+ */
+public class SignPlaybackController {
+
+    private static final String TAG = "SignPlaybackController";
+
+    public enum State {
+        /** No plan */
+        IDLE,
+        /** Plan loaded, not started (or stopped) */
+        READY,
+        PLAYING,
+        PAUSED,
+        /** Every token has been shown */
+        FINISHED
+    }
+
+    public interface Listener {
+        /** Show the token at index of the current plan */
+        void onSign(int index);
+
+        void onStateChanged(State state);
+    }
+
+    private final SignPlaybackScheduler scheduler = new SignPlaybackScheduler();
+    private final SignPrefetcher prefetcher;
+    private final Listener listener;
+
+    private State state = State.IDLE;
+    private SignPlan plan;
+    private int index = -1;
+    private float speed = 1f;
+    private boolean prefetching = false;
+
+    private final SignPlaybackScheduler.Listener schedule = new SignPlaybackScheduler.Listener() {
+        @Override
+        public void onSign(int index) {
+            show(index);
+        }
+
+        @Override
+        public void onFinished() {
+            setState(State.FINISHED);
+        }
+    };
+
+    public SignPlaybackController(SignPrefetcher prefetcher, Listener listener) {
+        this.prefetcher = prefetcher;
+        this.listener = listener;
+    }
+
+    public State getState() { return state; }
+    public SignPlan getPlan() { return plan; }
+
+    /**
+     * Token on screen, or -1 before the first one
+     */
+    public int getIndex() { return index; }
+
+    /**
+     * True while a sequence is on screen (playing or paused)
+     */
+    public boolean isActive() {
+        return state == State.PLAYING || state == State.PAUSED;
+    }
+
+    public boolean hasSigns() {
+        return plan != null && !plan.isEmpty();
+    }
+
+    /**
+     * Speed multiplier for the next play() from the start; a sequence in
+     * progress keeps its speed
+     */
+    public void setSpeed(float speed) {
+        this.speed = speed;
+    }
+
+    /**
+     * Replace the current plan and start decoding its first clips
+     */
+    public void load(SignPlan plan) {
+        release();
+        this.plan = plan;
+        this.index = -1;
+        prefetchFrom(0);
+        setState(State.READY);
+    }
+
+    /**
+     * Start, resume or replay, depending on the state
+     */
+    public void play() {
+        switch (state) {
+            case IDLE:
+                throw new IllegalStateException("No plan loaded");
+            case READY:
+            case FINISHED:
+                if (plan.isEmpty()) {
+                    return;
+                }
+                scheduler.stop();
+                prefetchFrom(0);
+                index = -1;
+                scheduler.start(plan, speed, schedule);
+                setState(State.PLAYING);
+                break;
+            case PAUSED:
+                scheduler.resume();
+                setState(State.PLAYING);
+                break;
+            default:
+                break;
+        }
+    }
+
+    public void pause() {
+        if (state == State.PLAYING) {
+            scheduler.pause();
+            setState(State.PAUSED);
+        }
+    }
+
+    /**
+     * Jump to a token. Playback continues from there; otherwise the token is
+     * shown here and held, and play() runs out the rest of it without
+     * showing it again.
+     */
+    public void seekTo(int target) {
+        if (plan == null) {
+            throw new IllegalStateException("No plan loaded");
+        }
+        if (target < 0 || target >= plan.size()) {
+            throw new IndexOutOfBoundsException("No token " + target + " in a plan of " + plan.size());
+        }
+
+        if (state == State.READY || state == State.FINISHED) {
+            // Start paused, so play() continues from the target
+            prefetchFrom(target);
+            scheduler.start(plan, speed, schedule);
+            scheduler.pause();
+        }
+        scheduler.seekTo(target);
+        if (state == State.PLAYING) {
+            return; // shown on the next frame
+        }
+        show(target); // the paused scheduler holds inside it
+        setState(State.PAUSED);
+    }
+
+    public void next() {
+        if (plan != null && index + 1 < plan.size()) {
+            seekTo(index + 1);
+        }
+    }
+
+    public void previous() {
+        if (plan != null && !plan.isEmpty()) {
+            seekTo(Math.max(0, index - 1));
+        }
+    }
+
+    /**
+     * Play again from the first token
+     */
+    public void replay() {
+        if (plan == null) {
+            throw new IllegalStateException("No plan loaded");
+        }
+        release();
+        setState(State.READY);
+        play();
+    }
+
+    /**
+     * End the sequence, keeping the plan for replay
+     */
+    public void stop() {
+        if (plan == null) {
+            return;
+        }
+        release();
+        setState(State.READY);
+    }
+
+    /**
+     * Drop the plan
+     */
+    public void clear() {
+        release();
+        plan = null;
+        setState(State.IDLE);
+    }
+
+    // Cancel timing and in-flight decodes; the listener clears the views
+    private void release() {
+        scheduler.stop();
+        prefetcher.cancel();
+        prefetching = false;
+        index = -1;
+    }
+
+    private void prefetchFrom(int position) {
+        if (!prefetching) {
+            prefetcher.start(plan);
+            prefetching = true;
+        }
+        prefetcher.advanceTo(position);
+    }
+
+    private void show(int target) {
+        index = target;
+        listener.onSign(target);
+        // Decode ahead of the next token
+        prefetcher.advanceTo(target + 1);
+    }
+
+    private void setState(State next) {
+        if (state == next) {
+            return;
+        }
+        EchoLog.v(TAG, "{} -> {} at token {}", state, next, index);
+        state = next;
+        listener.onStateChanged(next);
+    }
+}
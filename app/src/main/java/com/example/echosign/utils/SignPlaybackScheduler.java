@@ -0,0 +1,178 @@
+package com.example.echosign.utils;
+
+import android.view.Choreographer;
+
+/**
+ * Plays a SignPlan in step with the display: token changes land on vsync
+ * frames (Choreographer) at the offsets in the plan's SignTimeline, which
+ * uses each clip's measured length scaled by the playback speed.
+ *
+ * Tokens end at fixed offsets from the start of the utterance, so a frame
+ * that arrives a little late shortens only the token it delays instead of
+ * pushing back every token after it. A token that is shown more than a
+ * quarter of its time late (a long main-thread stall) gets its full time
+ * and the rest of the timeline moves back; tokens are never skipped.
+ *
+ * Between token changes no frame callbacks run except the one just before
+ * the next change. Pausing keeps the position within the current token;
+ * seeking restarts the timeline at a token's offset. Main thread only.
+ */
+public class SignPlaybackScheduler {
+
+    private static final String TAG = "SignPlaybackScheduler";
+
+    // Wake one frame early so the change lands on the first due vsync
+    private static final long FRAME_MILLIS = 16;
+    // Lateness beyond 1 / LATE_SHARE of a token's time moves the timeline back
+    private static final int LATE_SHARE = 4;
+
+    public interface Listener {
+        /** Token at index is due on screen now */
+        void onSign(int index);
+
+        /** The last token has had its time */
+        void onFinished();
+    }
+
+    private final Choreographer choreographer = Choreographer.getInstance();
+    private SignTimeline timeline;
+    private Listener listener;
+    private int index = -1;
+    private long startNanos = -1;
+    // Offset the next frame continues from (start, resume or seek), or -1
+    private long resumeMillis = -1;
+    private boolean paused = false;
+    private long shiftedMillis = 0;
+
+    private final Choreographer.FrameCallback frame = new Choreographer.FrameCallback() {
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            onFrame(frameTimeNanos);
+        }
+    };
+
+    /**
+     * Play a plan from its first token, replacing any plan in progress
+     */
+    public void start(SignPlan plan, float speed, Listener listener) {
+        stop();
+        this.timeline = new SignTimeline(plan, speed);
+        this.listener = listener;
+        this.resumeMillis = 0;
+        choreographer.postFrameCallback(frame);
+    }
+
+    /**
+     * Hold the current token; resume() continues where it left off
+     */
+    public void pause() {
+        if (timeline == null || paused) {
+            return;
+        }
+        choreographer.removeFrameCallback(frame);
+        if (resumeMillis < 0) {
+            resumeMillis = Math.min(timeline.getEndMillis(index), (System.nanoTime() - startNanos) / 1000000);
+        }
+        paused = true;
+    }
+
+    public void resume() {
+        if (timeline == null || !paused) {
+            return;
+        }
+        paused = false;
+        choreographer.postFrameCallback(frame);
+    }
+
+    /**
+     * Continue from the start of a token. While playing, the listener gets
+     * onSign for it on the next frame. Paused playback holds at the token
+     * without onSign (the caller shows it), and resume() plays out the rest
+     * of its time.
+     */
+    public void seekTo(int index) {
+        if (timeline == null) {
+            return;
+        }
+        if (index < 0 || index >= timeline.size()) {
+            throw new IndexOutOfBoundsException("No token " + index + " in a plan of " + timeline.size());
+        }
+        this.resumeMillis = timeline.getStartMillis(index);
+        if (paused) {
+            this.index = index;
+        } else {
+            this.index = index - 1;
+            choreographer.removeFrameCallback(frame);
+            choreographer.postFrameCallback(frame);
+        }
+    }
+
+    /**
+     * Stop without notifying the listener
+     */
+    public void stop() {
+        choreographer.removeFrameCallback(frame);
+        timeline = null;
+        listener = null;
+        index = -1;
+        startNanos = -1;
+        resumeMillis = -1;
+        paused = false;
+        shiftedMillis = 0;
+    }
+
+    public boolean isPlaying() {
+        return timeline != null && !paused;
+    }
+
+    public boolean isPaused() {
+        return timeline != null && paused;
+    }
+
+    /**
+     * Timeline of the plan in progress, or null
+     */
+    public SignTimeline getTimeline() {
+        return timeline;
+    }
+
+    private void onFrame(long frameTimeNanos) {
+        if (resumeMillis >= 0) {
+            startNanos = frameTimeNanos - resumeMillis * 1000000;
+            resumeMillis = -1;
+        }
+        long elapsed = (frameTimeNanos - startNanos) / 1000000;
+
+        // At most one token per frame, so a stall never skips a sign
+        if (index < 0 || elapsed >= timeline.getEndMillis(index)) {
+            int next = index + 1;
+            if (next >= timeline.size()) {
+                finish(elapsed);
+                return;
+            }
+            long late = elapsed - timeline.getStartMillis(next);
+            if (late > timeline.getDurationMillis(next) / LATE_SHARE) {
+                startNanos += late * 1000000;
+                shiftedMillis += late;
+                elapsed -= late;
+            }
+            index = next;
+            Listener current = listener;
+            current.onSign(next);
+            if (timeline == null) {
+                return; // stopped by the listener
+            }
+        }
+
+        long wait = timeline.getEndMillis(index) - elapsed;
+        choreographer.postFrameCallbackDelayed(frame, Math.max(0, wait - FRAME_MILLIS));
+    }
+
+    private void finish(long elapsed) {
+        Listener finished = listener;
+        EchoLog.d(TAG, "Played {} signs in {} ms ({} ms of stalls absorbed)",
+                timeline.size(), elapsed + shiftedMillis, shiftedMillis);
+        stop();
+        finished.onFinished();
+    }
+}
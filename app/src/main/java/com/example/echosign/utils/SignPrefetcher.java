@@ -0,0 +1,183 @@
+package com.example.echosign.utils;
+
+import android.content.Context;
+import android.content.res.AssetFileDescriptor;
+import android.content.res.Resources;
+import android.graphics.drawable.Drawable;
+
+import androidx.annotation.Nullable;
+
+import com.bumptech.glide.Glide;
+import com.bumptech.glide.RequestBuilder;
+import com.bumptech.glide.RequestManager;
+import com.bumptech.glide.load.DataSource;
+import com.bumptech.glide.load.engine.GlideException;
+import com.bumptech.glide.request.RequestListener;
+import com.bumptech.glide.request.target.Target;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes the next clips of a SignPlan into Glide's memory cache while the
+ * current one plays. The window covers the current position and the next
+ * few tokens; requests are issued in plan order and stop while the clips in
+ * flight would exceed the byte cap, resuming as they complete.
+ *
+ * Display requests must come from {@link #request(int)} so they share the
+ * prefetched cache key (size and transformation). Clips are animated WebP
+ * (or GIF when the build could not transcode), so requests decode to a
+ * plain Drawable. Main thread only.
+ */
+public class SignPrefetcher {
+
+    // Assumed size of a clip missing from the manifest whose length cannot be read
+    private static final long UNKNOWN_CLIP_BYTES = 1024 * 1024;
+
+    private final Context context;
+    private final RequestManager glide;
+    private final int window;
+    private final int width;
+    private final int height;
+
+    private final Map<Integer, Long> clipBytes = new HashMap<>();
+    private final PrefetchBudget budget;
+    private final List<Target<Drawable>> inFlight = new ArrayList<>();
+    private SignPlan plan;
+    private int position = 0;
+    private int generation = 0;
+
+    public SignPrefetcher(Context context, int width, int height, int window, long maxBytesInFlight) {
+        if (window < 1 || maxBytesInFlight < 1) {
+            throw new IllegalArgumentException("window and maxBytesInFlight must be positive");
+        }
+        this.context = context.getApplicationContext();
+        this.glide = Glide.with(this.context);
+        this.width = width;
+        this.height = height;
+        this.window = window;
+        this.budget = new PrefetchBudget(maxBytesInFlight);
+    }
+
+    /**
+     * Clip request with the options shared by prefetch and display
+     */
+    public RequestBuilder<Drawable> request(int resourceId) {
+        return glide.load(resourceId).fitCenter().override(width, height);
+    }
+
+    /**
+     * Start prefetching a new plan from its first token
+     */
+    public void start(SignPlan plan) {
+        cancel();
+        this.plan = plan;
+        this.position = 0;
+        fill();
+    }
+
+    /**
+     * Playback moved to this token; slide the window forward
+     */
+    public void advanceTo(int position) {
+        this.position = position;
+        fill();
+    }
+
+    /**
+     * Drop the current plan and cancel clips still loading
+     */
+    public void cancel() {
+        generation++;
+        for (Target<Drawable> target : inFlight) {
+            glide.clear(target);
+        }
+        inFlight.clear();
+        budget.clear();
+        plan = null;
+    }
+
+    private void fill() {
+        if (plan == null) {
+            return;
+        }
+
+        int end = Math.min(plan.size(), position + window + 1);
+        for (int i = position; i < end; i++) {
+            int resourceId = plan.getResourceId(i);
+            if (resourceId == 0 || budget.isRequested(resourceId)) {
+                continue;
+            }
+
+            SignClip clip = plan.getClip(i);
+            long bytes = clip != null ? clip.getBytes() : clipBytes(resourceId);
+            if (!budget.admit(resourceId, bytes)) {
+                return;
+            }
+
+            Completion completion = new Completion(bytes, generation);
+            completion.target = request(resourceId).listener(completion).preload();
+            if (!completion.done) {
+                inFlight.add(completion.target);
+            }
+        }
+    }
+
+    private long clipBytes(int resourceId) {
+        Long bytes = clipBytes.get(resourceId);
+        if (bytes == null) {
+            bytes = UNKNOWN_CLIP_BYTES;
+            try (AssetFileDescriptor descriptor = context.getResources().openRawResourceFd(resourceId)) {
+                if (descriptor != null && descriptor.getLength() > 0) {
+                    bytes = descriptor.getLength();
+                }
+            } catch (Resources.NotFoundException | IOException e) {
+                // Compressed in the APK; keep the estimate
+            }
+            clipBytes.put(resourceId, bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * Releases a clip's share of the byte cap and tops the window up
+     */
+    private final class Completion implements RequestListener<Drawable> {
+        private final long bytes;
+        private final int startedIn;
+        Target<Drawable> target;
+        boolean done = false;
+
+        Completion(long bytes, int startedIn) {
+            this.bytes = bytes;
+            this.startedIn = startedIn;
+        }
+
+        @Override
+        public boolean onLoadFailed(@Nullable GlideException e, Object model,
+                                    Target<Drawable> target, boolean isFirstResource) {
+            finish();
+            return false;
+        }
+
+        @Override
+        public boolean onResourceReady(Drawable resource, Object model, Target<Drawable> target,
+                                       DataSource dataSource, boolean isFirstResource) {
+            finish();
+            return false;
+        }
+
+        private void finish() {
+            done = true;
+            if (startedIn != generation) {
+                return;
+            }
+            inFlight.remove(target);
+            budget.release(bytes);
+            fill();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.echosign;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the table generated by :app:generateSignClipTable
+ */
+public class SignClipsTest {
+
+    @Test
+    public void namesAreSortedAndUniqueForBinarySearch() {
+        for (int i = 1; i < SignClips.NAMES.length; i++) {
+            assertTrue(SignClips.NAMES[i - 1] + " before " + SignClips.NAMES[i],
+                    SignClips.NAMES[i - 1].compareTo(SignClips.NAMES[i]) < 0);
+        }
+    }
+
+    @Test
+    public void everyNameResolvesToItsId() {
+        assertEquals(SignClips.NAMES.length, SignClips.IDS.length);
+        for (int i = 0; i < SignClips.NAMES.length; i++) {
+            assertNotEquals(0, SignClips.IDS[i]);
+            assertEquals(SignClips.IDS[i], SignClips.resourceId(SignClips.NAMES[i]));
+        }
+    }
+
+    @Test
+    public void unknownClipsResolveToZero() {
+        assertEquals(0, SignClips.resourceId("asl_zebra"));
+        assertEquals(0, SignClips.resourceId(""));
+    }
+
+    @Test
+    public void everyAuthoredClipIsInTheTable() {
+        // Local unit tests run in the module directory
+        File[] clips = new File("src/main/signClips").listFiles();
+        assertNotNull(clips);
+        for (File clip : clips) {
+            String name = clip.getName().substring(0, clip.getName().lastIndexOf('.'));
+            assertTrue(name, Arrays.binarySearch(SignClips.NAMES, name) >= 0);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PrefetchBudgetTest {
+
+    @Test
+    public void admitsClipsUntilTheCapIsReached() {
+        PrefetchBudget budget = new PrefetchBudget(1000);
+        assertTrue(budget.admit(1, 400));
+        assertTrue(budget.admit(2, 600));
+        assertFalse(budget.admit(3, 1));
+        assertFalse(budget.isRequested(3));
+        assertEquals(1000, budget.getBytesInFlight());
+    }
+
+    @Test
+    public void alwaysAdmitsOneClipHoweverLarge() {
+        PrefetchBudget budget = new PrefetchBudget(1000);
+        assertTrue(budget.admit(1, 5000));
+        assertFalse(budget.admit(2, 10));
+    }
+
+    @Test
+    public void finishedClipsFreeTheirShare() {
+        PrefetchBudget budget = new PrefetchBudget(1000);
+        budget.admit(1, 800);
+        assertFalse(budget.admit(2, 500));
+        budget.release(800);
+        assertTrue(budget.admit(2, 500));
+
+        // Still requested: a finished clip is in Glide's memory cache
+        assertTrue(budget.isRequested(1));
+    }
+
+    @Test
+    public void clearForgetsRequestsAndBytes() {
+        PrefetchBudget budget = new PrefetchBudget(1000);
+        budget.admit(1, 5000);
+        budget.clear();
+        assertFalse(budget.isRequested(1));
+        assertEquals(0, budget.getBytesInFlight());
+        assertTrue(budget.admit(2, 900));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.echosign.benchmark;
+
+import com.example.echosign.utils.ASLDictionary;
+import com.example.echosign.utils.BatchTranslator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk translation throughput in sentences/sec. Divide by the parallelism
+ * param to compare against BatchTranslator.TARGET_SENTENCES_PER_SEC_PER_CORE.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchTranslationBenchmark {
+
+    private static final int BATCH_SIZE = 10_000;
+
+    @Param({"1", "2", "4"})
+    public int parallelism;
+
+    private BatchTranslator translator;
+    private List<String> sentences;
+
+    @Setup
+    public void setup() {
+        translator = new BatchTranslator(new ASLDictionary().getPhrases(), parallelism, 256);
+        sentences = BenchmarkData.sentenceList(BATCH_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        translator.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BatchTranslator.BatchResult translate() {
+        return translator.translate(sentences);
+    }
+}
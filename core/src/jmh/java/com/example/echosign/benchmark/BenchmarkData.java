@@ -0,0 +1,63 @@
+package com.example.echosign.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shared inputs for the translation benchmarks
+ */
+final class BenchmarkData {
+
+    static final String[] SENTENCES = {
+            "Thank you for your help",
+            "I need water and food",
+            "Where is the bathroom",
+            "What time is it now",
+            "My name is Alex",
+            "How are you today",
+            "I want to go to the bathroom",
+            "Please help me find the doctor",
+            "Can you tell me the time, you know, before school",
+            "I like to play with my friends tomorrow morning"
+    };
+
+    static final String[] GLOSS_TOKENS = {
+            "HELLO", "THANKYOU", "THANK", "WATER", "BATHROOM", "friends", "HELPING",
+            "TOMORROW", "ALEX", "DOCTOR", "PLEASE", "HAPPY", "FIND", "MOTHER"
+    };
+
+    private BenchmarkData() {}
+
+    /**
+     * One long transcript made of the sample sentences repeated
+     */
+    static String transcript(int sentenceCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < sentenceCount; i++) {
+            text.append(SENTENCES[i % SENTENCES.length]).append(". ");
+        }
+        return text.toString();
+    }
+
+    static List<String> sentenceList(int count) {
+        List<String> sentences = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            sentences.add(SENTENCES[i % SENTENCES.length] + " number " + i);
+        }
+        return sentences;
+    }
+
+    /**
+     * Partial hypotheses as a recognizer would deliver them, one word at a time
+     */
+    static List<String> partialHypotheses(String finalText) {
+        List<String> partials = new ArrayList<>();
+        int space = finalText.indexOf(' ');
+        while (space >= 0) {
+            partials.add(finalText.substring(0, space));
+            space = finalText.indexOf(' ', space + 1);
+        }
+        partials.add(finalText);
+        return partials;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.echosign.benchmark;
+
+import com.example.echosign.utils.ASLDictionary;
+import com.example.echosign.utils.EchoLog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-token dictionary lookups, mixing hits and misses, and the cost of
+ * opening the compiled dictionary (should not grow with vocabulary size)
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DictionaryLookupBenchmark {
+
+    private static final String[] INFLECTED_WORDS = {
+            "WATERS", "HELPING", "LOVED", "ATE", "HELPFUL", "PAYMENT", "FRIENDS", "XYZZY"
+    };
+
+    // Search-as-you-type keystrokes
+    private static final String[] SEARCH_QUERIES = {
+            "f", "fl", "flat", "flat p", "flat palm", "chin", "greet", "emot"
+    };
+
+    private ASLDictionary dictionary;
+    private ByteBuffer compiled;
+
+    @Setup
+    public void setup() throws IOException {
+        EchoLog.setLevel(EchoLog.WARN);
+        dictionary = new ASLDictionary();
+
+        try (InputStream in = ASLDictionary.class.getResourceAsStream(ASLDictionary.RESOURCE_PATH)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                bytes.write(chunk, 0, read);
+            }
+            compiled = ByteBuffer.wrap(bytes.toByteArray());
+        }
+    }
+
+    @Benchmark
+    public ASLDictionary openDictionary() {
+        return new ASLDictionary(compiled);
+    }
+
+    @Benchmark
+    public void getSign(Blackhole blackhole) {
+        for (String token : BenchmarkData.GLOSS_TOKENS) {
+            blackhole.consume(dictionary.getSign(token));
+        }
+    }
+
+    @Benchmark
+    public void hasSign(Blackhole blackhole) {
+        for (String token : BenchmarkData.GLOSS_TOKENS) {
+            blackhole.consume(dictionary.hasSign(token));
+        }
+    }
+
+    // Inflected forms; after the first iteration unseen words hit the memo
+    @Benchmark
+    public void findLemma(Blackhole blackhole) {
+        for (String word : INFLECTED_WORDS) {
+            blackhole.consume(dictionary.findLemma(word));
+        }
+    }
+
+    @Benchmark
+    public void search(Blackhole blackhole) {
+        for (String query : SEARCH_QUERIES) {
+            blackhole.consume(dictionary.search(query, 20));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.echosign.benchmark;
+
+import com.example.echosign.utils.ASLDictionary;
+import com.example.echosign.utils.ASLGlossConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * English -> ASL Gloss conversion: one-shot and streaming partial results
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GlossConversionBenchmark {
+
+    @Param({"1", "10", "200"})
+    public int sentences;
+
+    private ASLGlossConverter converter;
+    private ASLGlossConverter.Session session;
+    private String text;
+    private List<String> partials;
+    private final List<String> tokens = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        converter = new ASLGlossConverter(new ASLDictionary().getPhrases());
+        session = converter.newSession();
+        text = BenchmarkData.transcript(sentences);
+        partials = BenchmarkData.partialHypotheses(text);
+    }
+
+    @Benchmark
+    public List<String> convert() {
+        tokens.clear();
+        converter.appendGlossTokens(text, tokens);
+        return tokens;
+    }
+
+    @Benchmark
+    public int convertPartials() {
+        session.reset();
+        int emitted = 0;
+        for (int i = 0; i < partials.size(); i++) {
+            emitted += session.update(partials.get(i)).size();
+        }
+        return emitted + session.finish(text).size();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.echosign.benchmark;
+
+import com.example.echosign.utils.ASLDictionary;
+import com.example.echosign.utils.ASLGlossConverter;
+import com.example.echosign.utils.GlossGrammar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-utterance conversion cost as the grammar grows. The standard rules are
+ * padded with extra rules (each with its own word list) up to ruleCount;
+ * scores should stay flat across the ruleCount params.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GrammarRuleBenchmark {
+
+    @Param({"4", "40", "400"})
+    public int ruleCount;
+
+    private ASLGlossConverter converter;
+    private String text;
+    private final List<String> tokens = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        List<GlossGrammar.Rule> rules = new ArrayList<>(Arrays.asList(
+                GlossGrammar.Rule.moveToFront("Time", "TODAY", "TOMORROW", "YESTERDAY", "NOW"),
+                GlossGrammar.Rule.moveToEnd("Negation", "DONT", "NOT").rewriteTo("NOT"),
+                GlossGrammar.Rule.moveToEnd("Negation", "NEVER"),
+                GlossGrammar.Rule.moveToEnd("Questions", "WHAT", "WHERE", "WHEN", "WHY", "HOW", "WHO")));
+
+        for (int i = rules.size(); i < ruleCount; i++) {
+            String[] words = new String[8];
+            for (int w = 0; w < words.length; w++) {
+                words[w] = "RULE" + i + "WORD" + w;
+            }
+            rules.add(i % 2 == 0
+                    ? GlossGrammar.Rule.moveToFront("Extra" + i, words)
+                    : GlossGrammar.Rule.moveToEnd("Extra" + i, words));
+        }
+
+        converter = new ASLGlossConverter(new ASLDictionary().getPhrases(), new GlossGrammar(rules));
+        text = BenchmarkData.transcript(10) + "Where do you live. I don't know. Tomorrow I go home";
+    }
+
+    @Benchmark
+    public List<String> convert() {
+        tokens.clear();
+        converter.appendGlossTokens(text, tokens);
+        return tokens;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.echosign.benchmark;
+
+import com.example.echosign.utils.SignMapper;
+import com.example.echosign.utils.SignPlan;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building a resolved playback plan: full resolution vs. a cache hit
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignPlanBenchmark {
+
+    private static final String UTTERANCE = "Thank you for your help, where is the bathroom";
+
+    private SignMapper signMapper;
+    private List<String> glossTokens;
+
+    @Setup
+    public void setup() {
+        signMapper = new SignMapper();
+        glossTokens = new ArrayList<>(Arrays.asList(BenchmarkData.GLOSS_TOKENS));
+        signMapper.buildPlan(UTTERANCE);
+    }
+
+    @Benchmark
+    public SignPlan resolvePlan() {
+        return signMapper.buildPlan(UTTERANCE, glossTokens);
+    }
+
+    @Benchmark
+    public SignPlan cachedPlan() {
+        return signMapper.buildPlan(UTTERANCE);
+    }
+}
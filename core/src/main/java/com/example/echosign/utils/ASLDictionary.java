@@ -0,0 +1,563 @@
+package com.example.echosign.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Step 12: Core ASL Dictionary with real sign descriptions
+ * Maps ASL words to actual sign descriptions (and later to GIFs).
+ * The vocabulary is authored in core/src/main/dictionary/asl_signs.csv and
+ * compiled at build time into a binary index (see DictionaryCompiler).
+ * Decoded ASLSign objects are kept per category shard: signs marked core
+ * are decoded at startup, and the first lookup in any other category decodes
+ * that sign inline and queues the rest of its shard on a background thread,
+ * so startup and resident memory follow the categories a session uses.
+ * Clip metadata measured at build time (SignClipManifest) is loaded with the
+ * dictionary, so a sign's clip length and size are known before it plays.
+ */
+public class ASLDictionary {
+
+    // Classpath copy of the compiled dictionary, used off-device
+    public static final String RESOURCE_PATH = "/com/example/echosign/dictionary/asl_signs.bin";
+    // Asset name of the same file in the app (stored uncompressed for mmap)
+    public static final String ASSET_NAME = "asl_signs.bin";
+
+    private static final int SHARD_COLD = 0;
+    private static final int SHARD_QUEUED = 1;
+    private static final int SHARD_LOADED = 2;
+
+    private final BinaryDictionary index;
+    private final SignClipManifest clips;
+    // Decoded signs per category, indexed by position in the category;
+    // a shard's array is allocated on first use
+    private final AtomicReferenceArray<ASLSign[]> shards;
+    private final AtomicIntegerArray shardStates;
+    private final List<String> phrases = new ArrayList<>();
+    private final String[] categories;
+    private final FoldedKeyTable<Integer> categoryIndex;
+
+    // Full-text index, built on first search (or prepareSearch())
+    private volatile SignSearchIndex searchIndex;
+
+    // Lemma results for words outside the precomputed form index (misses too)
+    private static final int LEMMA_MEMO_SIZE = 512;
+    private static final Integer NO_LEMMA = -1;
+    private final Map<String, Integer> lemmaMemo = new LinkedHashMap<String, Integer>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Integer> eldest) {
+            return size() > LEMMA_MEMO_SIZE;
+        }
+    };
+
+    // ASL Sign data class
+    public static class ASLSign {
+        private final String word;
+        private final String description;
+        private final String gifResource; // For future GIF integration
+        private final String category;
+        private final String usageExample;
+
+        public ASLSign(String word, String description, String category, String usageExample) {
+            this.word = word;
+            this.description = description;
+            this.gifResource = "asl_" + toGlossKey(word).toLowerCase(); // e.g. asl_thankyou.gif
+            this.category = category;
+            this.usageExample = usageExample;
+        }
+
+        public String getWord() { return word; }
+        public String getDescription() { return description; }
+        public String getGifResource() { return gifResource; }
+        public String getCategory() { return category; }
+        public String getUsageExample() { return usageExample; }
+
+        @Override
+        public String toString() {
+            return word.toUpperCase() + ": " + description;
+        }
+    }
+
+    /**
+     * Load the compiled dictionary bundled as a classpath resource
+     */
+    public ASLDictionary() {
+        this(loadResource());
+    }
+
+    /**
+     * Use a compiled dictionary buffer, e.g. the memory-mapped app asset
+     */
+    public ASLDictionary(ByteBuffer compiledDictionary) {
+        this(compiledDictionary, SignClipManifest.EMPTY);
+    }
+
+    /**
+     * Use a compiled dictionary buffer and the clip manifest built with the
+     * app's sign clips
+     */
+    public ASLDictionary(ByteBuffer compiledDictionary, SignClipManifest clips) {
+        this.index = new BinaryDictionary(compiledDictionary);
+        this.clips = clips;
+        this.shards = new AtomicReferenceArray<>(index.categoryCount());
+        this.shardStates = new AtomicIntegerArray(index.categoryCount());
+        for (int n = 0; n < index.phraseCount(); n++) {
+            phrases.add(index.getField(index.phraseAt(n), BinaryDictionary.FIELD_WORD));
+        }
+
+        // Category names are few; members stay in the mapped index
+        this.categories = new String[index.categoryCount()];
+        Map<String, Integer> categoryIds = new HashMap<>();
+        for (int c = 0; c < categories.length; c++) {
+            categories[c] = index.categoryName(c);
+            categoryIds.put(categories[c], c);
+        }
+        this.categoryIndex = new FoldedKeyTable<>(categoryIds);
+
+        // Always-resident high-frequency signs
+        for (int n = 0; n < index.coreCount(); n++) {
+            signAt(index.coreAt(n));
+        }
+        EchoLog.i("ASLDictionary", "Core ASL dictionary initialized with {} signs, {} clips",
+                index.size(), clips.size());
+    }
+
+    private static ByteBuffer loadResource() {
+        try (InputStream in = ASLDictionary.class.getResourceAsStream(RESOURCE_PATH)) {
+            if (in == null) {
+                throw new IllegalStateException("Missing compiled dictionary " + RESOURCE_PATH);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                bytes.write(chunk, 0, read);
+            }
+            return ByteBuffer.wrap(bytes.toByteArray());
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read compiled dictionary " + RESOURCE_PATH, e);
+        }
+    }
+
+    /**
+     * Gloss token for a dictionary entry: uppercase, multi-word signs joined
+     * without spaces ("THANK YOU" -> THANKYOU)
+     */
+    public static String toGlossKey(String word) {
+        StringBuilder key = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c > ' ') {
+                key.append(FoldedKeyTable.fold(c));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Build-time metadata of a sign's clip, or null when the app has no clip
+     * for it (or no manifest was loaded)
+     */
+    public SignClip getClip(ASLSign sign) {
+        return sign != null ? clips.get(sign.getGifResource()) : null;
+    }
+
+    /**
+     * Multi-word signs as written in the dictionary (e.g. "THANK YOU")
+     */
+    public List<String> getPhrases() {
+        return Collections.unmodifiableList(phrases);
+    }
+
+    /**
+     * Check if word exists in ASL dictionary
+     */
+    public boolean hasSign(String word) {
+        if (word == null) return false;
+        return hasSign(word, 0, word.length());
+    }
+
+    /**
+     * Check text[start, end) against the dictionary without allocating;
+     * surrounding whitespace is ignored and case does not matter
+     */
+    public boolean hasSign(CharSequence text, int start, int end) {
+        return find(text, start, end) >= 0;
+    }
+
+    /**
+     * Get ASL sign information
+     */
+    public ASLSign getSign(String word) {
+        if (word == null) return null;
+        return getSign(word, 0, word.length());
+    }
+
+    /**
+     * Sign for text[start, end) (e.g. a token inside a larger buffer),
+     * ignoring surrounding whitespace and case
+     */
+    public ASLSign getSign(CharSequence text, int start, int end) {
+        int i = find(text, start, end);
+        if (i < 0) {
+            return null;
+        }
+        requestShard(index.categoryOf(i));
+        return signAt(i);
+    }
+
+    private int find(CharSequence text, int start, int end) {
+        // Same trimming as String.trim(), applied to the range
+        while (start < end && text.charAt(start) <= ' ') start++;
+        while (end > start && text.charAt(end - 1) <= ' ') end--;
+        return index.indexOf(text, start, end);
+    }
+
+    /**
+     * Signs whose word, category, usage or description contain every query
+     * word as a prefix ("flat pal" finds signs made with a flat palm), best
+     * matches first. Suitable for search-as-you-type.
+     */
+    public List<ASLSign> search(String query, int limit) {
+        int[] records = searchIndex().search(query, limit);
+        List<ASLSign> results = new ArrayList<>(records.length);
+        for (int record : records) {
+            results.add(signAt(record));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    /**
+     * Build the search index in the background before the first query
+     */
+    public void prepareSearch() {
+        ShardLoader.EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                searchIndex();
+            }
+        });
+    }
+
+    private SignSearchIndex searchIndex() {
+        SignSearchIndex built = searchIndex;
+        if (built == null) {
+            synchronized (this) {
+                built = searchIndex;
+                if (built == null) {
+                    built = new SignSearchIndex(index);
+                    searchIndex = built;
+                    EchoLog.d("ASLDictionary", "Search index built: {} terms", built.termCount());
+                }
+            }
+        }
+        return built;
+    }
+
+    /**
+     * Sign an authored alias or synonym points to (THANK -> THANK YOU), or
+     * null. Alias chains were flattened at build time, so this is one probe.
+     */
+    public ASLSign findAlias(String word) {
+        if (word == null) return null;
+
+        int form = index.formIndexOf(word, 0, word.length());
+        if (form < 0 || index.formKind(form) != BinaryDictionary.KIND_ALIAS) {
+            return null;
+        }
+        int record = index.formRecord(form);
+        requestShard(index.categoryOf(record));
+        return signAt(record);
+    }
+
+    /**
+     * Dictionary sign for an inflected or derived word (WATERS, HELPING,
+     * ATE, HELPFUL), or null. Forms of dictionary words were precomputed at
+     * build time, so this is normally one probe; other words go through the
+     * stemmer once and are memoized.
+     */
+    public LemmaMatch findLemma(String word) {
+        if (word == null) return null;
+
+        int form = index.formIndexOf(word, 0, word.length());
+        if (form >= 0 && index.formKind(form) != BinaryDictionary.KIND_ALIAS) {
+            return lemmaMatch(index.formRecord(form), index.formKind(form) == Lemmatizer.KIND_PLURAL);
+        }
+
+        String key = FoldedKeyTable.fold(word.trim());
+        Integer memo;
+        synchronized (lemmaMemo) {
+            memo = lemmaMemo.get(key);
+        }
+        if (memo == null) {
+            memo = stem(key);
+            synchronized (lemmaMemo) {
+                lemmaMemo.put(key, memo);
+            }
+        }
+        if (memo.equals(NO_LEMMA)) {
+            return null;
+        }
+        return lemmaMatch(memo >> 1, (memo & 1) != 0);
+    }
+
+    // Packed as record << 1 | plural, or NO_LEMMA
+    private int stem(String word) {
+        final int[] found = {NO_LEMMA};
+        Lemmatizer.lemmaCandidates(word, new Lemmatizer.Sink() {
+            @Override
+            public void accept(String candidate, int kind) {
+                if (found[0] == NO_LEMMA) {
+                    int i = index.indexOf(candidate, 0, candidate.length());
+                    if (i >= 0) {
+                        found[0] = i << 1 | (kind == Lemmatizer.KIND_PLURAL ? 1 : 0);
+                    }
+                }
+            }
+        });
+        return found[0];
+    }
+
+    private LemmaMatch lemmaMatch(int record, boolean plural) {
+        requestShard(index.categoryOf(record));
+        ASLSign sign = signAt(record);
+        return new LemmaMatch(sign, toGlossKey(sign.getWord()), plural);
+    }
+
+    /**
+     * A dictionary sign reached through an inflected form of its word
+     */
+    public static final class LemmaMatch {
+        private final ASLSign sign;
+        private final String lemma;
+        private final boolean plural;
+
+        LemmaMatch(ASLSign sign, String lemma, boolean plural) {
+            this.sign = sign;
+            this.lemma = lemma;
+            this.plural = plural;
+        }
+
+        public ASLSign getSign() { return sign; }
+        public String getLemma() { return lemma; }
+        public boolean isPlural() { return plural; }
+    }
+
+    /**
+     * Sign for a record, decoded from the compiled dictionary on first use.
+     * ASLSign is immutable, so a racing duplicate decode is harmless.
+     */
+    private ASLSign signAt(int i) {
+        ASLSign[] shard = shard(index.categoryOf(i));
+        int position = index.positionInCategory(i);
+        ASLSign sign = shard[position];
+        if (sign == null) {
+            sign = index.readSign(i);
+            shard[position] = sign;
+        }
+        return sign;
+    }
+
+    private ASLSign[] shard(int category) {
+        ASLSign[] shard = shards.get(category);
+        if (shard == null) {
+            shards.compareAndSet(category, null, new ASLSign[index.categorySize(category)]);
+            shard = shards.get(category);
+        }
+        return shard;
+    }
+
+    /**
+     * Queue a background decode of a whole category the first time it is used
+     */
+    private void requestShard(final int category) {
+        if (shardStates.get(category) != SHARD_COLD
+                || !shardStates.compareAndSet(category, SHARD_COLD, SHARD_QUEUED)) {
+            return;
+        }
+        ShardLoader.EXECUTOR.execute(new Runnable() {
+            @Override
+            public void run() {
+                for (int n = 0; n < index.categorySize(category); n++) {
+                    signAt(index.categoryMember(category, n));
+                }
+                shardStates.set(category, SHARD_LOADED);
+                EchoLog.d("ASLDictionary", "Loaded category shard {} ({} signs)",
+                        categories[category], index.categorySize(category));
+            }
+        });
+    }
+
+    /**
+     * Start loading a category in the background ahead of use
+     */
+    public void preloadCategory(String category) {
+        int c = categoryId(category);
+        if (c >= 0) {
+            requestShard(c);
+        }
+    }
+
+    public boolean isCategoryLoaded(String category) {
+        int c = categoryId(category);
+        return c >= 0 && shardStates.get(c) == SHARD_LOADED;
+    }
+
+    /**
+     * Number of decoded signs currently held in memory
+     */
+    public int getResidentSignCount() {
+        int resident = 0;
+        for (int c = 0; c < shards.length(); c++) {
+            ASLSign[] shard = shards.get(c);
+            if (shard != null) {
+                for (ASLSign sign : shard) {
+                    if (sign != null) resident++;
+                }
+            }
+        }
+        return resident;
+    }
+
+    // One low-priority daemon thread shared by all dictionaries
+    private static final class ShardLoader {
+        static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "ASLDictionary-shards");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Get sign description
+     */
+    public String getSignDescription(String word) {
+        ASLSign sign = getSign(word);
+        return sign != null ? sign.getDescription() : "No ASL sign found for: " + word;
+    }
+
+    /**
+     * Get all signs in a category
+     */
+    public Map<String, ASLSign> getSignsByCategory(String category) {
+        Map<String, ASLSign> categorySigns = new LinkedHashMap<>();
+        for (ASLSign sign : getSignsInCategory(category, 0, getCategorySize(category))) {
+            categorySigns.put(toGlossKey(sign.getWord()), sign);
+        }
+        return categorySigns;
+    }
+
+    /**
+     * One page of a category's signs, sorted by gloss word.
+     * Only the signs on the page are decoded, so browsing a large category
+     * costs the same per page as a small one.
+     */
+    public List<ASLSign> getSignsInCategory(String category, int offset, int limit) {
+        int c = categoryId(category);
+        if (c < 0 || offset < 0 || limit <= 0 || offset >= index.categorySize(c)) {
+            return Collections.emptyList();
+        }
+        requestShard(c);
+
+        int end = Math.min(index.categorySize(c), offset + limit);
+        List<ASLSign> page = new ArrayList<>(end - offset);
+        for (int n = offset; n < end; n++) {
+            page.add(signAt(index.categoryMember(c, n)));
+        }
+        return Collections.unmodifiableList(page);
+    }
+
+    /**
+     * Number of signs in a category (case-insensitive name), 0 if unknown
+     */
+    public int getCategorySize(String category) {
+        int c = categoryId(category);
+        return c < 0 ? 0 : index.categorySize(c);
+    }
+
+    private int categoryId(String category) {
+        if (category == null) return -1;
+        int slot = categoryIndex.indexOf(category, 0, category.length());
+        return slot < 0 ? -1 : categoryIndex.valueAt(slot);
+    }
+
+    /**
+     * Get all available categories, in the order they are authored
+     */
+    public String[] getCategories() {
+        return categories.clone();
+    }
+
+    /**
+     * Get dictionary statistics
+     */
+    public String getDictionaryStats() {
+        int totalSigns = index.size();
+
+        StringBuilder stats = new StringBuilder();
+        stats.append("ASL Dictionary Statistics:\n");
+        stats.append("Total unique signs: ").append(totalSigns).append("\n");
+        stats.append("Decoded in memory: ").append(getResidentSignCount()).append("\n");
+        stats.append("Signs with clips: ").append(clips.size()).append("\n");
+        stats.append("Categories:\n");
+
+        for (int c = 0; c < categories.length; c++) {
+            stats.append("  ").append(categories[c]).append(": ").append(index.categorySize(c)).append(" signs\n");
+        }
+
+        return stats.toString();
+    }
+
+    /**
+     * Get example sentences using dictionary signs
+     */
+    public String[] getExampleSentences() {
+        return new String[] {
+                "HELLO HOW ARE YOU",
+                "THANK YOU FOR YOUR HELP",
+                "I NEED WATER PLEASE",
+                "WHERE IS BATHROOM",
+                "WHAT TIME IS IT NOW",
+                "MY NAME IS [Fingerspell your name]",
+                "I AM HAPPY TODAY",
+                "DO YOU WANT FOOD",
+                "I LOVE MY MOTHER FATHER",
+                "SORRY I DON'T UNDERSTAND"
+        };
+    }
+
+    /**
+     * Get all signs for debugging
+     */
+    public String getAllSigns() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("ASL Dictionary Contents:\n");
+
+        for (int i = 0; i < index.size(); i++) {
+            ASLSign sign = signAt(i);
+            sb.append(toGlossKey(sign.getWord())).append("\n");
+            sb.append("  Description: ").append(sign.getDescription()).append("\n");
+            sb.append("  Category: ").append(sign.getCategory()).append("\n");
+            sb.append("  Usage: ").append(sign.getUsageExample()).append("\n");
+            sb.append("  GIF: ").append(sign.getGifResource()).append(".gif").append("\n\n");
+        }
+
+        return sb.toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,636 @@
+package com.example.echosign.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Step 11: Converts English text to ASL Gloss format
+ * ASL Gloss is a written representation of ASL that uses:
+ * - Uppercase English words
+ * - Simplified sentence structure
+ * - Removes unnecessary English grammar
+ */
+public class ASLGlossConverter {
+
+    private static final String TAG = "ASLGlossConverter";
+
+    // Words to remove from English (English grammar words not used in ASL)
+    private static final Set<String> REMOVE_WORDS = new HashSet<>(Arrays.asList(
+            // Articles
+            "a", "an", "the",
+            // Prepositions (some are kept in ASL)
+            "for", "of", "at", "by", "with", "from", "to",
+            // Helping verbs
+            "is", "am", "are", "was", "were", "be", "been", "being",
+            "have", "has", "had", "do", "does", "did",
+            // Modal verbs (some are kept)
+            "will", "shall", "may", "might", "must", "can", "could", "should", "would",
+            // Conjunctions (some are kept)
+            "and", "but", "or", "nor", "for", "so", "yet",
+            // Fillers
+            "um", "uh", "ah", "like"
+    ));
+
+    // Multi-word fillers, removed as whole phrases by the phrase automaton
+    // when they close a clause ("I'm tired, you know")
+    private static final List<String> FILLER_PHRASES = Arrays.asList(
+            "you know", "i mean"
+    );
+
+    // Right before a filler phrase these make it a real question ("do you know?")
+    private static final Set<String> QUESTION_AUXILIARIES = new HashSet<>(Arrays.asList(
+            "do", "does", "did", "will", "shall", "may", "might", "must",
+            "can", "could", "should", "would"
+    ));
+
+    // Words to keep in ASL (important pronouns, verbs, nouns)
+    private static final Set<String> KEEP_WORDS = new HashSet<>(Arrays.asList(
+            // Pronouns (important in ASL)
+            "i", "you", "he", "she", "it", "we", "they", "me", "him", "her", "us", "them",
+            "my", "your", "his", "her", "its", "our", "their", "mine", "yours", "hers", "ours", "theirs",
+            "myself", "yourself", "himself", "herself", "itself", "ourselves", "yourselves", "themselves",
+
+            // Important verbs
+            "want", "need", "like", "love", "hate", "go", "come", "see", "look", "watch",
+            "hear", "listen", "speak", "talk", "say", "tell", "ask", "answer", "know", "understand",
+            "think", "feel", "believe", "hope", "wish", "help", "give", "take", "bring", "get",
+            "make", "do", "work", "play", "eat", "drink", "sleep", "wake", "live", "die",
+
+            // Important nouns (time, people, places)
+            "time", "day", "night", "morning", "afternoon", "evening", "today", "tomorrow", "yesterday",
+            "week", "month", "year", "now", "then", "before", "after", "soon", "later",
+            "person", "people", "man", "woman", "child", "boy", "girl", "baby",
+            "place", "home", "house", "school", "work", "store", "hospital", "doctor",
+
+            // Important question words
+            "what", "where", "when", "why", "how", "who", "which", "whose"
+    ));
+
+    // ASL word order, compiled once: time first, negation and WH-words last
+    private static final GlossGrammar.Rule[] GRAMMAR_RULES = {
+            // Time is established first: "I go home tomorrow" -> TOMORROW I GO HOME
+            GlossGrammar.Rule.moveToFront("Time",
+                    "TODAY", "TOMORROW", "YESTERDAY", "NOW", "LATER", "SOON", "TONIGHT",
+                    "MORNING", "AFTERNOON", "EVENING", "WEEKEND"),
+            // Contracted negation becomes NOT after the verb: "I don't understand" -> I UNDERSTAND NOT
+            GlossGrammar.Rule.moveToEnd("Negation",
+                    "NOT", "DONT", "DOESNT", "DIDNT", "ISNT", "ARENT", "WASNT", "WERENT",
+                    "WONT", "WOULDNT", "SHOULDNT", "COULDNT").rewriteTo("NOT"),
+            GlossGrammar.Rule.moveToEnd("Negation", "NEVER", "CANT", "CANNOT"),
+            // WH-words close the question: "Where is the bathroom" -> BATHROOM WHERE
+            GlossGrammar.Rule.moveToEnd("Questions",
+                    "WHAT", "WHERE", "WHEN", "WHY", "HOW", "WHO", "WHICH", "WHOSE")
+    };
+
+    public static final GlossGrammar DEFAULT_GRAMMAR = new GlossGrammar(GRAMMAR_RULES);
+
+    // Word classes resolved straight from the scan buffer
+    private static final int CLASS_REMOVE = 1;
+    private static final int CLASS_KEEP = 2;
+    // Removed, and keeps a following filler phrase
+    private static final int CLASS_AUXILIARY = 3;
+    private static final FoldedKeyTable<Integer> WORD_CLASSES = buildWordClasses();
+
+    // Multi-word signs and filler phrases, matched longest-first over scanned words
+    private final PhraseTrie phraseTrie;
+    private final GlossGrammar grammar;
+    private final GlossGrammar.State sentence;
+
+    // Reusable scan buffers - one converter instance per thread
+    private char[] wordBuffer = new char[32];
+    private int wordCount = 0;
+    private int[] wordStarts = new int[16];
+    private int[] wordPhraseIds = new int[16];
+    private String[] wordTokens = new String[16];
+    private boolean[] wordSentenceStarts = new boolean[16];
+    // Clause punctuation (, ; : . ? !) follows the word
+    private boolean[] wordClauseEnds = new boolean[16];
+    private boolean[] wordAuxiliaries = new boolean[16];
+    // The word before the scanned range is an auxiliary
+    private boolean scanAfterAuxiliary = false;
+    private final List<String> glossTokens = new ArrayList<>();
+    private final StringBuilder glossBuilder = new StringBuilder(64);
+
+    public ASLGlossConverter() {
+        this(Collections.<String>emptyList());
+    }
+
+    /**
+     * @param signPhrases multi-word signs (e.g. "THANK YOU") that collapse into
+     *                    one gloss token with the spaces removed (THANKYOU)
+     */
+    public ASLGlossConverter(Collection<String> signPhrases) {
+        this(signPhrases, DEFAULT_GRAMMAR);
+    }
+
+    public ASLGlossConverter(Collection<String> signPhrases, GlossGrammar grammar) {
+        Map<String, String> phrases = new HashMap<>();
+        for (String filler : FILLER_PHRASES) {
+            phrases.put(filler, null);
+        }
+        for (String phrase : signPhrases) {
+            phrases.put(phrase, ASLDictionary.toGlossKey(phrase));
+        }
+        this.phraseTrie = new PhraseTrie(phrases);
+        this.grammar = grammar;
+        this.sentence = grammar.newState();
+    }
+
+    private static FoldedKeyTable<Integer> buildWordClasses() {
+        Map<String, Integer> classes = new HashMap<>();
+        for (String word : KEEP_WORDS) {
+            classes.put(word, CLASS_KEEP);
+        }
+        // Removal wins for words listed in both sets ("like", "do")
+        for (String word : REMOVE_WORDS) {
+            classes.put(word, CLASS_REMOVE);
+        }
+        for (String word : QUESTION_AUXILIARIES) {
+            classes.put(word, CLASS_AUXILIARY);
+        }
+        return new FoldedKeyTable<>(classes);
+    }
+
+    /**
+     * Convert English sentence to ASL Gloss
+     * @param englishText Input English text
+     * @return ASL Gloss formatted string
+     */
+    public String convertToASLGloss(String englishText) {
+        if (isBlank(englishText)) {
+            return "";
+        }
+
+        EchoLog.d(TAG, "Converting English: \"{}\"", englishText);
+
+        glossTokens.clear();
+        appendGlossTokens(englishText, glossTokens);
+
+        glossBuilder.setLength(0);
+        for (int i = 0; i < glossTokens.size(); i++) {
+            if (i > 0) glossBuilder.append(' ');
+            glossBuilder.append(glossTokens.get(i));
+        }
+        String aslGloss = glossBuilder.toString();
+
+        EchoLog.d(TAG, "ASL Gloss result: \"{}\"", aslGloss);
+        return aslGloss;
+    }
+
+    /**
+     * Convert English text straight to a list of ASL Gloss tokens
+     */
+    public List<String> convertToGlossTokens(CharSequence englishText) {
+        List<String> tokens = new ArrayList<>();
+        if (englishText != null) {
+            appendGlossTokens(englishText, tokens);
+        }
+        return tokens;
+    }
+
+    /**
+     * Single pass over the input: letters are case-folded into the word buffer,
+     * whitespace closes a word, anything else (punctuation, digits) is dropped.
+     * Closed words are classified without leaving the buffer, and known words
+     * reuse their canonical uppercase string instead of allocating a new one.
+     * Multi-word phrases are then resolved and ASL word order applied in a
+     * linear pass over the words.
+     * @return number of tokens appended to out
+     */
+    public int appendGlossTokens(CharSequence englishText, List<String> out) {
+        return appendGlossTokens(englishText, 0, englishText.length(), out);
+    }
+
+    /**
+     * Same as {@link #appendGlossTokens(CharSequence, List)} over englishText[start, end)
+     */
+    public int appendGlossTokens(CharSequence englishText, int start, int end, List<String> out) {
+        int before = out.size();
+        sentence.reset();
+        scanWords(englishText, start, end);
+        emitWords(out, sentence, true);
+        return out.size() - before;
+    }
+
+    /**
+     * Fill the word buffers with every word in text[start, end)
+     */
+    private void scanWords(CharSequence text, int start, int end) {
+        wordCount = 0;
+        int length = 0;
+        int wordStart = start;
+        boolean sentenceBreak = endsSentence(text, start);
+        boolean startsSentence = false;
+        boolean clauseBreak = false;
+        scanAfterAuxiliary = !sentenceBreak && followsAuxiliary(text, start);
+
+        for (int i = start; i <= end; i++) {
+            char c = i < end ? text.charAt(i) : ' ';
+
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                if (length == 0) {
+                    wordStart = i;
+                    startsSentence = sentenceBreak;
+                    sentenceBreak = false;
+                }
+                if (length == wordBuffer.length) {
+                    wordBuffer = Arrays.copyOf(wordBuffer, length * 2);
+                }
+                wordBuffer[length++] = FoldedKeyTable.fold(c);
+            } else if (isWhitespace(c)) {
+                if (length == 0) {
+                    continue;
+                }
+                if (wordCount == wordStarts.length) {
+                    int capacity = wordCount * 2;
+                    wordStarts = Arrays.copyOf(wordStarts, capacity);
+                    wordPhraseIds = Arrays.copyOf(wordPhraseIds, capacity);
+                    wordTokens = Arrays.copyOf(wordTokens, capacity);
+                    wordSentenceStarts = Arrays.copyOf(wordSentenceStarts, capacity);
+                    wordClauseEnds = Arrays.copyOf(wordClauseEnds, capacity);
+                    wordAuxiliaries = Arrays.copyOf(wordAuxiliaries, capacity);
+                }
+                int slot = WORD_CLASSES.indexOf(wordBuffer, 0, length);
+                wordStarts[wordCount] = wordStart;
+                wordPhraseIds[wordCount] = phraseTrie.wordId(wordBuffer, length);
+                wordTokens[wordCount] = toGlossToken(slot, wordBuffer, length);
+                wordSentenceStarts[wordCount] = startsSentence;
+                wordClauseEnds[wordCount] = clauseBreak;
+                wordAuxiliaries[wordCount] = slot >= 0 && WORD_CLASSES.valueAt(slot) == CLASS_AUXILIARY;
+                wordCount++;
+                length = 0;
+                clauseBreak = false;
+            } else if (isClauseEnd(c)) {
+                // Punctuation in a word ends it; after a word, ends the last one
+                if (length > 0) {
+                    clauseBreak = true;
+                } else if (wordCount > 0) {
+                    wordClauseEnds[wordCount - 1] = true;
+                }
+                if (isSentenceEnd(c)) {
+                    sentenceBreak = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * True when a sentence ends between the last word before offset and
+     * offset ("where?, now"), as the scan would have seen it
+     */
+    private static boolean endsSentence(CharSequence text, int offset) {
+        for (int i = offset - 1; i >= 0; i--) {
+            char c = text.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                return false;
+            }
+            if (isSentenceEnd(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * True for the English words the converter keeps or drops by itself
+     * (HIS, THE), which never stand for an inflected sign
+     */
+    static boolean isGrammarWord(CharSequence word) {
+        return WORD_CLASSES.containsKey(word);
+    }
+
+    static boolean isSentenceEnd(char c) {
+        return c == '.' || c == '?' || c == '!';
+    }
+
+    static boolean isClauseEnd(char c) {
+        return isSentenceEnd(c) || c == ',' || c == ';' || c == ':';
+    }
+
+    /**
+     * True when the word before offset, with no clause punctuation in
+     * between, is a question auxiliary (DO, CAN, ...)
+     */
+    private boolean followsAuxiliary(CharSequence text, int offset) {
+        int end = offset;
+        while (end > 0 && isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        int start = end;
+        while (start > 0 && !isWhitespace(text.charAt(start - 1))) {
+            start--;
+        }
+
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                if (length == wordBuffer.length) {
+                    wordBuffer = Arrays.copyOf(wordBuffer, length * 2);
+                }
+                wordBuffer[length++] = FoldedKeyTable.fold(c);
+            } else if (isClauseEnd(c)) {
+                return false;
+            }
+        }
+        int slot = length > 0 ? WORD_CLASSES.indexOf(wordBuffer, 0, length) : -1;
+        return slot >= 0 && WORD_CLASSES.valueAt(slot) == CLASS_AUXILIARY;
+    }
+
+    /**
+     * Emit scanned words, collapsing the longest phrase match at each position
+     * and feeding the result through the grammar one sentence at a time.
+     * Phrases are bounded in length, so the whole pass is linear in word count.
+     * A filler phrase is only dropped where it closes a clause; elsewhere
+     * ("do you know where") its words are glossed like any others.
+     * @param endOfInput when false, trailing words that could still grow into a
+     *                   phrase (or close one) are held back, tokens the grammar
+     *                   moves to the end stay in the sentence state, and the
+     *                   rest stream out
+     * @return index of the first word not emitted
+     */
+    private int emitWords(List<String> out, GlossGrammar.State sentence, boolean endOfInput) {
+        int i = 0;
+        while (i < wordCount) {
+            if (wordSentenceStarts[i]) {
+                sentence.closeSentence(out);
+            }
+
+            int node = PhraseTrie.ROOT;
+            int matchEnd = -1;
+            String matchOutput = null;
+
+            int j = i;
+            while (j < wordCount && wordPhraseIds[j] >= 0 && (j == i || !wordSentenceStarts[j])) {
+                node = phraseTrie.child(node, wordPhraseIds[j]);
+                if (node == PhraseTrie.NO_NODE) break;
+                j++;
+                if (phraseTrie.isTerminal(node)) {
+                    matchEnd = j;
+                    matchOutput = phraseTrie.output(node);
+                }
+            }
+
+            if (!endOfInput && j == wordCount && node != PhraseTrie.NO_NODE
+                    && phraseTrie.hasChildren(node)) {
+                return i;
+            }
+
+            if (matchEnd > 0 && matchOutput == null) {
+                if (!endOfInput && matchEnd == wordCount && !wordClauseEnds[matchEnd - 1]) {
+                    return i; // filler or not depends on what follows
+                }
+                if (!isFiller(i, matchEnd, endOfInput)) {
+                    matchEnd = -1;
+                }
+            }
+
+            if (matchEnd > 0) {
+                if (matchOutput != null) {
+                    sentence.add(matchOutput, out, !endOfInput);
+                }
+                i = matchEnd;
+            } else {
+                if (wordTokens[i] != null) {
+                    sentence.add(wordTokens[i], out, !endOfInput);
+                }
+                i++;
+            }
+        }
+
+        if (endOfInput) {
+            sentence.closeSentence(out);
+        }
+        return wordCount;
+    }
+
+    /**
+     * Whether the filler phrase over words [from, to) stands on its own:
+     * it ends a clause and does not follow a question auxiliary
+     */
+    private boolean isFiller(int from, int to, boolean endOfInput) {
+        boolean endsClause = wordClauseEnds[to - 1] || (to == wordCount && endOfInput);
+        boolean afterAuxiliary = from == 0
+                ? scanAfterAuxiliary
+                : wordAuxiliaries[from - 1] && !wordClauseEnds[from - 1];
+        return endsClause && !afterAuxiliary;
+    }
+
+    /**
+     * Start an incremental conversion fed by growing partial hypotheses
+     */
+    public Session newSession() {
+        return new Session();
+    }
+
+    /**
+     * Incremental gloss conversion for streaming speech recognition.
+     * Each partial hypothesis is compared with the previous one; words that are
+     * closed by whitespace and unchanged across two hypotheses are final and
+     * emitted once. Only text after the last emitted word is ever re-scanned.
+     * Negation and WH-words are held until their sentence closes so they still
+     * land at the end. A time word that arrives after earlier words of its
+     * sentence were emitted is streamed where it falls; finish() then converts
+     * the final text in one shot and reports isRevised(), so the finished
+     * tokens always match convertToGlossTokens().
+     */
+    public class Session {
+
+        private final StringBuilder hypothesis = new StringBuilder(128);
+        private final List<String> emittedTokens = new ArrayList<>();
+        private final GlossGrammar.State openSentence = grammar.newState();
+        private int stableEnd = 0;
+        private boolean revised = false;
+
+        /**
+         * Feed the latest partial hypothesis
+         * @return gloss tokens that became final with this hypothesis (may be empty)
+         */
+        public List<String> update(CharSequence partialText) {
+            List<String> newTokens = new ArrayList<>();
+            if (partialText == null) {
+                return newTokens;
+            }
+
+            int common = commonPrefixLength(hypothesis, partialText);
+            if (common < stableEnd) {
+                // Recognizer rewrote text we already emitted; wait for the final result
+                revised = true;
+            }
+
+            if (!revised) {
+                // Last whitespace inside the unchanged prefix closes the final words
+                int limit = common;
+                while (limit > stableEnd && !isWhitespace(partialText.charAt(limit - 1))) {
+                    limit--;
+                }
+                if (limit > stableEnd) {
+                    // Words that may still complete a phrase stay pending
+                    scanWords(partialText, stableEnd, limit);
+                    int emitted = emitWords(newTokens, openSentence, false);
+                    emittedTokens.addAll(newTokens);
+                    stableEnd = emitted < wordCount ? wordStarts[emitted] : limit;
+                }
+            }
+
+            hypothesis.setLength(0);
+            hypothesis.append(partialText);
+            return newTokens;
+        }
+
+        /**
+         * Feed the final recognition result and close the session.
+         * @return the tokens still missing after those already emitted, or the
+         * complete token list when {@link #isRevised()} reports a rewrite
+         */
+        public List<String> finish(CharSequence finalText) {
+            List<String> remaining = new ArrayList<>();
+            if (finalText == null) {
+                return remaining;
+            }
+
+            boolean incremental = !revised && commonPrefixLength(hypothesis, finalText) >= stableEnd;
+            if (incremental) {
+                scanWords(finalText, stableEnd, finalText.length());
+                emitWords(remaining, openSentence, true);
+                // A time word landed behind words already emitted
+                incremental = !openSentence.hasLateFront();
+            }
+            if (!incremental) {
+                revised = true;
+                emittedTokens.clear();
+                remaining.clear();
+                openSentence.reset();
+                appendGlossTokens(finalText, remaining);
+            }
+
+            emittedTokens.addAll(remaining);
+            hypothesis.setLength(0);
+            hypothesis.append(finalText);
+            stableEnd = finalText.length();
+            return remaining;
+        }
+
+        /**
+         * True when tokens already emitted were replaced: the recognizer
+         * changed emitted words, or a time word had to move ahead of them
+         */
+        public boolean isRevised() {
+            return revised;
+        }
+
+        public List<String> getEmittedTokens() {
+            return Collections.unmodifiableList(emittedTokens);
+        }
+
+        public void reset() {
+            hypothesis.setLength(0);
+            emittedTokens.clear();
+            openSentence.reset();
+            stableEnd = 0;
+            revised = false;
+        }
+    }
+
+    private static int commonPrefixLength(CharSequence a, CharSequence b) {
+        int n = Math.min(a.length(), b.length());
+        int i = 0;
+        while (i < n && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Remove filler words from a scanned word (word order is left to the grammar)
+     * @param slot the word's WORD_CLASSES slot, or negative
+     * @return the gloss token, or null when the word is dropped
+     */
+    private static String toGlossToken(int slot, char[] word, int length) {
+        if (slot >= 0) {
+            // Remove common English grammar words, keep important words
+            return WORD_CLASSES.valueAt(slot) == CLASS_KEEP ? WORD_CLASSES.keyAt(slot) : null;
+        }
+
+        // Keep words that are likely important (nouns, adjectives)
+        return length > 2 ? new String(word, 0, length) : null;
+    }
+
+    // Matches the regex \\s class the old split used
+    static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static boolean isBlank(String text) {
+        if (text == null) return true;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > ' ') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Get example conversions for debugging
+     */
+    public String getExampleConversions() {
+        StringBuilder examples = new StringBuilder();
+        examples.append("ASL Gloss Conversion Examples:\n");
+
+        String[][] testCases = {
+                {"Thank you for your help", "THANKYOU YOUR HELP"},
+                {"I need water and food", "I NEED WATER FOOD"},
+                {"Where is the bathroom", "BATHROOM WHERE"},
+                {"What time is it now", "NOW TIME IT WHAT"},
+                {"My name is Alex", "MY NAME ALEX"},
+                {"How are you today", "TODAY YOU HOW"},
+                {"I want to go to bathroom", "I WANT GO BATHROOM"},
+                {"Please help me find the doctor", "PLEASE HELP ME FIND DOCTOR"},
+                {"Can you tell me the time", "YOU TELL ME TIME"},
+                {"I like to play with my friends", "I LIKE PLAY MY FRIENDS"}
+        };
+
+        for (String[] testCase : testCases) {
+            String english = testCase[0];
+            String expected = testCase[1];
+            String actual = convertToASLGloss(english);
+
+            examples.append("English: \"").append(english).append("\"\n");
+            examples.append("Expected: ").append(expected).append("\n");
+            examples.append("Actual: ").append(actual).append("\n");
+            examples.append("Match: ").append(expected.equals(actual) ? "✓" : "✗").append("\n\n");
+        }
+
+        return examples.toString();
+    }
+
+    /**
+     * Get statistics about the conversion
+     */
+    public String getConversionStats(String englishText) {
+        String aslGloss = convertToASLGloss(englishText);
+
+        String[] englishWords = englishText.split("\\s+");
+        String[] aslWords = aslGloss.split("\\s+");
+
+        return String.format(
+                "Conversion Stats:\n" +
+                        "English words: %d\n" +
+                        "ASL Gloss words: %d\n" +
+                        "Reduction: %.1f%%\n" +
+                        "English: %s\n" +
+                        "ASL Gloss: %s",
+                englishWords.length,
+                aslWords.length,
+                (1 - (double)aslWords.length / englishWords.length) * 100,
+                englishText,
+                aslGloss
+        );
+    }
+}
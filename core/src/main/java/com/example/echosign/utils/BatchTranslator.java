@@ -0,0 +1,190 @@
+package com.example.echosign.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Bulk English -> ASL Gloss translation for transcripts and signage text.
+ * Sentences are split into chunks and translated on a fork-join pool; every
+ * worker thread owns its own ASLGlossConverter (the converter reuses scan
+ * buffers and is not thread-safe) and results always come back in input order.
+ */
+public class BatchTranslator {
+
+    // Throughput target for bulk jobs, per core, on short conversational sentences
+    // (measured on a desktop-class JVM; phones land several times lower)
+    public static final double TARGET_SENTENCES_PER_SEC_PER_CORE = 200_000;
+
+    private static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final Collection<String> signPhrases;
+    private final int chunkSize;
+    private final ForkJoinPool pool;
+    private final ThreadLocal<Worker> workers = new ThreadLocal<Worker>() {
+        @Override
+        protected Worker initialValue() {
+            return new Worker(new ASLGlossConverter(signPhrases));
+        }
+    };
+
+    public BatchTranslator(Collection<String> signPhrases) {
+        this(signPhrases, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public BatchTranslator(Collection<String> signPhrases, int parallelism, int chunkSize) {
+        if (parallelism < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("parallelism and chunkSize must be positive");
+        }
+        this.signPhrases = new ArrayList<>(signPhrases);
+        this.chunkSize = chunkSize;
+        this.pool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+     * Result of one batch: glosses in input order plus throughput figures
+     */
+    public static class BatchResult {
+        private final List<String> glosses;
+        private final long elapsedNanos;
+        private final int parallelism;
+
+        BatchResult(List<String> glosses, long elapsedNanos, int parallelism) {
+            this.glosses = glosses;
+            this.elapsedNanos = elapsedNanos;
+            this.parallelism = parallelism;
+        }
+
+        public List<String> getGlosses() { return glosses; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        public int getParallelism() { return parallelism; }
+
+        public double getSentencesPerSecond() {
+            return elapsedNanos == 0 ? 0 : glosses.size() * 1e9 / elapsedNanos;
+        }
+
+        public double getSentencesPerSecondPerCore() {
+            return getSentencesPerSecond() / parallelism;
+        }
+
+        public boolean meetsThroughputTarget() {
+            return getSentencesPerSecondPerCore() >= TARGET_SENTENCES_PER_SEC_PER_CORE;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Batch: %d sentences in %.1f ms (%.0f sentences/sec/core, target %.0f)",
+                    glosses.size(), elapsedNanos / 1e6,
+                    getSentencesPerSecondPerCore(), TARGET_SENTENCES_PER_SEC_PER_CORE);
+        }
+    }
+
+    /**
+     * Receives translated sentences from {@link #translate(Iterator, Listener)}
+     */
+    public interface Listener {
+        void onTranslated(int index, String englishText, String aslGloss);
+    }
+
+    /**
+     * Translate a list of sentences in parallel
+     */
+    public BatchResult translate(List<String> sentences) {
+        long start = System.nanoTime();
+        String[] glosses = new String[sentences.size()];
+        if (!sentences.isEmpty()) {
+            pool.invoke(new ChunkTask(sentences, glosses, 0, glosses.length));
+        }
+        return new BatchResult(Arrays.asList(glosses), System.nanoTime() - start, pool.getParallelism());
+    }
+
+    /**
+     * Translate a stream of sentences of unknown length, one window of
+     * chunks at a time, delivering results to the listener in input order
+     */
+    public void translate(Iterator<String> sentences, Listener listener) {
+        int windowSize = chunkSize * pool.getParallelism();
+        List<String> window = new ArrayList<>(windowSize);
+        int index = 0;
+
+        while (sentences.hasNext()) {
+            window.clear();
+            while (sentences.hasNext() && window.size() < windowSize) {
+                window.add(sentences.next());
+            }
+
+            List<String> glosses = translate(window).getGlosses();
+            for (int i = 0; i < window.size(); i++) {
+                listener.onTranslated(index++, window.get(i), glosses.get(i));
+            }
+        }
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<String> sentences;
+        private final String[] glosses;
+        private final int from;
+        private final int to;
+
+        ChunkTask(List<String> sentences, String[] glosses, int from, int to) {
+            this.sentences = sentences;
+            this.glosses = glosses;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                Worker worker = workers.get();
+                for (int i = from; i < to; i++) {
+                    glosses[i] = worker.translate(sentences.get(i));
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new ChunkTask(sentences, glosses, from, mid),
+                    new ChunkTask(sentences, glosses, mid, to));
+        }
+    }
+
+    /**
+     * Per-thread converter and reusable buffers
+     */
+    private static final class Worker {
+        private final ASLGlossConverter converter;
+        private final List<String> tokens = new ArrayList<>();
+        private final StringBuilder gloss = new StringBuilder(64);
+
+        Worker(ASLGlossConverter converter) {
+            this.converter = converter;
+        }
+
+        String translate(String englishText) {
+            if (englishText == null) {
+                return "";
+            }
+
+            tokens.clear();
+            converter.appendGlossTokens(englishText, tokens);
+
+            gloss.setLength(0);
+            for (int i = 0; i < tokens.size(); i++) {
+                if (i > 0) gloss.append(' ');
+                gloss.append(tokens.get(i));
+            }
+            return gloss.toString();
+        }
+    }
+}
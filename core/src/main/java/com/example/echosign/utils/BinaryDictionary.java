@@ -0,0 +1,278 @@
+package com.example.echosign.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+
+/**
+ * Read-only view over the compiled sign dictionary (see DictionaryCompiler).
+ * The buffer is typically memory-mapped, so opening costs a header check no
+ * matter how many signs there are; strings are decoded only when a sign is
+ * actually looked at.
+ *
+ * Layout (big-endian):
+ *   int magic "ASLD", int version, int signCount, int phraseCount,
+ *   int coreCount, int hashSlots, int categoryCount, int formCount,
+ *   int formSlots, int stringTableBytes
+ *   signCount records of RECORD_INTS ints, sorted by gloss key:
+ *     key, word, category, description, usage as (offset, length) pairs
+ *     into the string table, then category id and position in the category
+ *   phraseCount record indexes of multi-word signs
+ *   coreCount record indexes of always-resident signs
+ *   hashSlots open-addressing slots (record index + 1, 0 = empty), keyed by
+ *     FoldedKeyTable.hash of the gloss key and probed linearly
+ *   categoryCount categories in authoring order, CATEGORY_INTS ints each:
+ *     name (offset, length), first member, member count
+ *   signCount members: record indexes grouped by category, each group
+ *     sorted by gloss key
+ *   formCount inflected forms (see Lemmatizer) and authored aliases,
+ *     FORM_INTS ints each: form (offset, length), record index of its
+ *     lemma or alias target, Lemmatizer kind or KIND_ALIAS
+ *   formSlots open-addressing slots over the forms, like the key slots
+ *   string table (UTF-8)
+ *
+ * Gloss keys are ASCII uppercase, stored once per sign; lookups fold the
+ * probe text as they hash it, so they are case-insensitive without
+ * allocating and usually cost a single probe.
+ */
+final class BinaryDictionary {
+
+    static final int MAGIC = 0x41534C44; // "ASLD"
+    static final int VERSION = 6;
+    static final int RECORD_INTS = 12;
+    static final int CATEGORY_INTS = 4;
+    static final int FORM_INTS = 4;
+
+    // Form kind of an authored alias; the others are Lemmatizer kinds
+    static final int KIND_ALIAS = 3;
+
+    static final int FIELD_WORD = 1;
+    static final int FIELD_CATEGORY = 2;
+    static final int FIELD_DESCRIPTION = 3;
+    static final int FIELD_USAGE = 4;
+
+    private static final int HEADER_BYTES = 40;
+    private static final int RECORD_BYTES = RECORD_INTS * 4;
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    private final ByteBuffer buffer;
+    private final int base;
+    private final int size;
+    private final int phraseCount;
+    private final int phrasesStart;
+    private final int coreCount;
+    private final int coreStart;
+    private final int slotsStart;
+    private final int slotMask;
+    private final int categoryCount;
+    private final int categoriesStart;
+    private final int membersStart;
+    private final int formsStart;
+    private final int formSlotsStart;
+    private final int formSlotMask;
+    private final int stringsStart;
+
+    BinaryDictionary(ByteBuffer data) {
+        this.buffer = data.duplicate();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        this.base = buffer.position();
+
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt(base) != MAGIC) {
+            throw new IllegalArgumentException("Not a compiled sign dictionary");
+        }
+        int version = buffer.getInt(base + 4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported dictionary version " + version);
+        }
+
+        this.size = buffer.getInt(base + 8);
+        this.phraseCount = buffer.getInt(base + 12);
+        this.coreCount = buffer.getInt(base + 16);
+        int slots = buffer.getInt(base + 20);
+        this.phrasesStart = base + HEADER_BYTES + size * RECORD_BYTES;
+        this.coreStart = phrasesStart + phraseCount * 4;
+        this.slotsStart = coreStart + coreCount * 4;
+        this.slotMask = slots - 1;
+        this.categoryCount = buffer.getInt(base + 24);
+        this.categoriesStart = slotsStart + slots * 4;
+        this.membersStart = categoriesStart + categoryCount * CATEGORY_INTS * 4;
+        int formCount = buffer.getInt(base + 28);
+        int formSlots = buffer.getInt(base + 32);
+        this.formsStart = membersStart + size * 4;
+        this.formSlotsStart = formsStart + formCount * FORM_INTS * 4;
+        this.formSlotMask = formSlots - 1;
+        this.stringsStart = formSlotsStart + formSlots * 4;
+        int stringBytes = buffer.getInt(base + 36);
+        if (size < 0 || phraseCount < 0 || coreCount < 0 || categoryCount < 0 || formCount < 0
+                || stringsStart + stringBytes > buffer.limit()) {
+            throw new IllegalArgumentException("Truncated sign dictionary");
+        }
+        if (slots < 1 || (slots & slotMask) != 0 || slots <= size
+                || formSlots < 1 || (formSlots & formSlotMask) != 0 || formSlots <= formCount) {
+            throw new IllegalArgumentException("Corrupt sign dictionary index");
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Record index of the sign whose gloss key matches text[start, end)
+     * ignoring ASCII case, or -1
+     */
+    int indexOf(CharSequence text, int start, int end) {
+        int slot = FoldedKeyTable.hash(text, start, end) & slotMask;
+        int entry;
+        while ((entry = buffer.getInt(slotsStart + slot * 4)) != 0) {
+            if (refMatches(recordStart(entry - 1), text, start, end)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & slotMask;
+        }
+        return -1;
+    }
+
+    /**
+     * Form index of an inflected form matching text[start, end), or -1
+     */
+    int formIndexOf(CharSequence text, int start, int end) {
+        int slot = FoldedKeyTable.hash(text, start, end) & formSlotMask;
+        int entry;
+        while ((entry = buffer.getInt(formSlotsStart + slot * 4)) != 0) {
+            if (refMatches(formStart(entry - 1), text, start, end)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & formSlotMask;
+        }
+        return -1;
+    }
+
+    /**
+     * Record index of the sign an inflected form belongs to
+     */
+    int formRecord(int form) {
+        return buffer.getInt(formStart(form) + 8);
+    }
+
+    int formKind(int form) {
+        return buffer.getInt(formStart(form) + 12);
+    }
+
+    /**
+     * Open-addressing slot count for a dictionary of the given size
+     */
+    static int slotCount(int size) {
+        int slots = 8;
+        while (slots < size * 2) {
+            slots <<= 1;
+        }
+        return slots;
+    }
+
+    int coreCount() {
+        return coreCount;
+    }
+
+    /**
+     * Record index of the n-th always-resident sign
+     */
+    int coreAt(int n) {
+        return buffer.getInt(coreStart + n * 4);
+    }
+
+    /**
+     * Category (shard) id of a record
+     */
+    int categoryOf(int index) {
+        return buffer.getInt(recordStart(index) + 40);
+    }
+
+    /**
+     * Position of a record within its category, by gloss key
+     */
+    int positionInCategory(int index) {
+        return buffer.getInt(recordStart(index) + 44);
+    }
+
+    int categoryCount() {
+        return categoryCount;
+    }
+
+    String categoryName(int category) {
+        return readString(categoriesStart + category * CATEGORY_INTS * 4);
+    }
+
+    int categorySize(int category) {
+        return buffer.getInt(categoriesStart + category * CATEGORY_INTS * 4 + 12);
+    }
+
+    /**
+     * Record index of the n-th sign (by gloss key) in a category
+     */
+    int categoryMember(int category, int n) {
+        int first = buffer.getInt(categoriesStart + category * CATEGORY_INTS * 4 + 8);
+        return buffer.getInt(membersStart + (first + n) * 4);
+    }
+
+    String getField(int index, int field) {
+        return readString(recordStart(index) + field * 8);
+    }
+
+    // Decode the string referenced by the (offset, length) pair at ref
+    private String readString(int ref) {
+        int offset = buffer.getInt(ref);
+        int length = buffer.getInt(ref + 4);
+
+        byte[] bytes = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(stringsStart + offset);
+        view.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    int phraseCount() {
+        return phraseCount;
+    }
+
+    /**
+     * Record index of the n-th multi-word sign
+     */
+    int phraseAt(int n) {
+        return buffer.getInt(phrasesStart + n * 4);
+    }
+
+    /**
+     * Materialize the full sign for a record
+     */
+    ASLDictionary.ASLSign readSign(int index) {
+        return new ASLDictionary.ASLSign(
+                getField(index, FIELD_WORD),
+                getField(index, FIELD_DESCRIPTION),
+                getField(index, FIELD_CATEGORY),
+                getField(index, FIELD_USAGE));
+    }
+
+    // Keys and forms are ASCII uppercase, so each byte compares directly to a folded char
+    private boolean refMatches(int ref, CharSequence text, int start, int end) {
+        int length = buffer.getInt(ref + 4);
+        if (length != end - start) {
+            return false;
+        }
+        int offset = stringsStart + buffer.getInt(ref);
+        for (int i = 0; i < length; i++) {
+            if ((buffer.get(offset + i) & 0xff) != FoldedKeyTable.fold(text.charAt(start + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int formStart(int form) {
+        return formsStart + form * FORM_INTS * 4;
+    }
+
+    private int recordStart(int index) {
+        return base + HEADER_BYTES + index * RECORD_BYTES;
+    }
+}
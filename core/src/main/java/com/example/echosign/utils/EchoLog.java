@@ -0,0 +1,234 @@
+package com.example.echosign.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, level-gated logging facade.
+ * Callers pass a message pattern with "{}" placeholders plus raw arguments;
+ * when the level is disabled the call is a single field read and nothing is
+ * formatted or allocated. Enabled records go into a fixed lock-free ring
+ * buffer (multi-producer, single consumer) and are formatted and written to
+ * the Sink on a background daemon thread, never on the caller's thread.
+ * When the ring is full new records are dropped and counted.
+ */
+public final class EchoLog {
+
+    public static final int VERBOSE = 2;
+    public static final int DEBUG = 3;
+    public static final int INFO = 4;
+    public static final int WARN = 5;
+    public static final int ERROR = 6;
+    public static final int NONE = Integer.MAX_VALUE;
+
+    /**
+     * Destination for formatted records, called on the drain thread only
+     */
+    public interface Sink {
+        void write(int level, String tag, String message, Throwable error);
+    }
+
+    private static final int CAPACITY = 1024; // must be a power of two
+    private static final int MASK = CAPACITY - 1;
+    private static final long IDLE_PARK_NANOS = 20_000_000L;
+
+    // One preallocated slot per ring position; a slot is free for the
+    // producer at position p when sequence == p, readable when sequence == p + 1
+    private static final class Entry {
+        volatile long sequence;
+        int level;
+        String tag;
+        String pattern;
+        Object arg1;
+        Object arg2;
+        Object arg3;
+        Throwable error;
+    }
+
+    private static final Entry[] ring = new Entry[CAPACITY];
+    private static final AtomicLong tail = new AtomicLong();
+    private static final AtomicLong dropped = new AtomicLong();
+    private static long head = 0; // drain thread only
+
+    private static volatile int minLevel = INFO;
+    private static volatile Sink sink = new ConsoleSink();
+    private static volatile Thread drainThread;
+    private static volatile boolean drainIdle = false;
+
+    static {
+        for (int i = 0; i < CAPACITY; i++) {
+            ring[i] = new Entry();
+            ring[i].sequence = i;
+        }
+    }
+
+    private EchoLog() {
+    }
+
+    /**
+     * Lowest level that is recorded; NONE disables logging entirely
+     */
+    public static void setLevel(int level) {
+        minLevel = level;
+    }
+
+    public static void setSink(Sink newSink) {
+        sink = newSink;
+    }
+
+    public static boolean isLoggable(int level) {
+        return level >= minLevel;
+    }
+
+    /**
+     * Records dropped because the ring buffer was full
+     */
+    public static long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public static void v(String tag, String pattern) { if (VERBOSE >= minLevel) enqueue(VERBOSE, tag, pattern, null, null, null, null); }
+    public static void v(String tag, String pattern, Object a) { if (VERBOSE >= minLevel) enqueue(VERBOSE, tag, pattern, a, null, null, null); }
+    public static void v(String tag, String pattern, Object a, Object b) { if (VERBOSE >= minLevel) enqueue(VERBOSE, tag, pattern, a, b, null, null); }
+    public static void v(String tag, String pattern, Object a, Object b, Object c) { if (VERBOSE >= minLevel) enqueue(VERBOSE, tag, pattern, a, b, c, null); }
+
+    public static void d(String tag, String pattern) { if (DEBUG >= minLevel) enqueue(DEBUG, tag, pattern, null, null, null, null); }
+    public static void d(String tag, String pattern, Object a) { if (DEBUG >= minLevel) enqueue(DEBUG, tag, pattern, a, null, null, null); }
+    public static void d(String tag, String pattern, Object a, Object b) { if (DEBUG >= minLevel) enqueue(DEBUG, tag, pattern, a, b, null, null); }
+    public static void d(String tag, String pattern, Object a, Object b, Object c) { if (DEBUG >= minLevel) enqueue(DEBUG, tag, pattern, a, b, c, null); }
+
+    public static void i(String tag, String pattern) { if (INFO >= minLevel) enqueue(INFO, tag, pattern, null, null, null, null); }
+    public static void i(String tag, String pattern, Object a) { if (INFO >= minLevel) enqueue(INFO, tag, pattern, a, null, null, null); }
+    public static void i(String tag, String pattern, Object a, Object b) { if (INFO >= minLevel) enqueue(INFO, tag, pattern, a, b, null, null); }
+
+    public static void w(String tag, String pattern) { if (WARN >= minLevel) enqueue(WARN, tag, pattern, null, null, null, null); }
+    public static void w(String tag, String pattern, Object a) { if (WARN >= minLevel) enqueue(WARN, tag, pattern, a, null, null, null); }
+
+    public static void e(String tag, String pattern, Throwable error) { if (ERROR >= minLevel) enqueue(ERROR, tag, pattern, null, null, null, error); }
+    public static void e(String tag, String pattern, Object a, Throwable error) { if (ERROR >= minLevel) enqueue(ERROR, tag, pattern, a, null, null, error); }
+
+    private static void enqueue(int level, String tag, String pattern,
+                                Object a, Object b, Object c, Throwable error) {
+        Entry entry;
+        long position = tail.get();
+        while (true) {
+            entry = ring[(int) (position & MASK)];
+            long available = entry.sequence - position;
+            if (available == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    break;
+                }
+                position = tail.get();
+            } else if (available < 0) {
+                // Drain thread has not caught up; never block the caller
+                dropped.incrementAndGet();
+                return;
+            } else {
+                position = tail.get();
+            }
+        }
+
+        entry.level = level;
+        entry.tag = tag;
+        entry.pattern = pattern;
+        entry.arg1 = a;
+        entry.arg2 = b;
+        entry.arg3 = c;
+        entry.error = error;
+        entry.sequence = position + 1;
+
+        Thread drainer = drainThread;
+        if (drainer == null) {
+            startDrainThread();
+        } else if (drainIdle) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    private static synchronized void startDrainThread() {
+        if (drainThread != null) {
+            return;
+        }
+        Thread thread = new Thread(EchoLog::drainLoop, "EchoLog-drain");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        drainThread = thread;
+        thread.start();
+    }
+
+    private static void drainLoop() {
+        StringBuilder message = new StringBuilder(256);
+        while (true) {
+            if (!drainOne(message)) {
+                drainIdle = true;
+                // Re-check so a record published just before the flag is not missed
+                if (!drainOne(message)) {
+                    LockSupport.parkNanos(IDLE_PARK_NANOS);
+                }
+                drainIdle = false;
+            }
+        }
+    }
+
+    private static boolean drainOne(StringBuilder message) {
+        Entry entry = ring[(int) (head & MASK)];
+        if (entry.sequence != head + 1) {
+            return false;
+        }
+
+        int level = entry.level;
+        String tag = entry.tag;
+        Throwable error = entry.error;
+        message.setLength(0);
+        format(message, entry.pattern, entry.arg1, entry.arg2, entry.arg3);
+
+        // Release the slot before the (possibly slow) sink write
+        entry.tag = null;
+        entry.pattern = null;
+        entry.arg1 = null;
+        entry.arg2 = null;
+        entry.arg3 = null;
+        entry.error = null;
+        entry.sequence = head + CAPACITY;
+        head++;
+
+        try {
+            sink.write(level, tag, message.toString(), error);
+        } catch (RuntimeException ignored) {
+            // A broken sink must not kill the drain thread
+        }
+        return true;
+    }
+
+    /**
+     * Substitute up to three arguments for "{}" placeholders, in order
+     */
+    static void format(StringBuilder out, String pattern, Object a, Object b, Object c) {
+        if (pattern == null) {
+            return;
+        }
+        int argIndex = 0;
+        int from = 0;
+        int placeholder;
+        while (argIndex < 3 && (placeholder = pattern.indexOf("{}", from)) >= 0) {
+            out.append(pattern, from, placeholder);
+            out.append(argIndex == 0 ? a : argIndex == 1 ? b : c);
+            argIndex++;
+            from = placeholder + 2;
+        }
+        out.append(pattern, from, pattern.length());
+    }
+
+    /**
+     * Default sink for plain JVM use (tests, benchmarks, tools)
+     */
+    public static final class ConsoleSink implements Sink {
+        @Override
+        public void write(int level, String tag, String message, Throwable error) {
+            System.out.println(tag + ": " + message);
+            if (error != null) {
+                error.printStackTrace(System.out);
+            }
+        }
+    }
+}
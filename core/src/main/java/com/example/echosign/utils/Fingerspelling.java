@@ -0,0 +1,51 @@
+package com.example.echosign.utils;
+
+/**
+ * Layout of the fingerspelling sprite atlas: one image holding the manual
+ * alphabet handshapes A-Z then digits 0-9, row by row in a square grid of
+ * equal cells. A word is spelled by drawing its cells one after another.
+ */
+public final class Fingerspelling {
+
+    public static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    public static final int ATLAS_COLUMNS = 6;
+    public static final int ATLAS_ROWS = 6;
+
+    private Fingerspelling() {
+    }
+
+    /**
+     * Atlas cell for a character (case-insensitive), or -1 when it has no handshape
+     */
+    public static int cellOf(char c) {
+        if (c >= 'A' && c <= 'Z') return c - 'A';
+        if (c >= 'a' && c <= 'z') return c - 'a';
+        if (c >= '0' && c <= '9') return 26 + (c - '0');
+        return -1;
+    }
+
+    /**
+     * Atlas cells for a word, skipping characters without a handshape
+     */
+    public static int[] expand(CharSequence word) {
+        int count = 0;
+        for (int i = 0; i < word.length(); i++) {
+            if (cellOf(word.charAt(i)) >= 0) count++;
+        }
+        int[] cells = new int[count];
+        int n = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int cell = cellOf(word.charAt(i));
+            if (cell >= 0) cells[n++] = cell;
+        }
+        return cells;
+    }
+
+    public static int columnOf(int cell) {
+        return cell % ATLAS_COLUMNS;
+    }
+
+    public static int rowOf(int cell) {
+        return cell / ATLAS_COLUMNS;
+    }
+}
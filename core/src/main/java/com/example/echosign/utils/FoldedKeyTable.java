@@ -0,0 +1,154 @@
+package com.example.echosign.utils;
+
+import java.util.Map;
+
+/**
+ * Immutable open-addressing table keyed on case-folded characters.
+ * Keys are stored once in their canonical uppercase form, and lookups take a
+ * char range so callers can probe straight from a scan buffer without
+ * allocating a String first.
+ */
+final class FoldedKeyTable<V> {
+
+    private final String[] keys;
+    private final Object[] values;
+    private final int mask;
+    private final int size;
+
+    FoldedKeyTable(Map<String, V> entries) {
+        int capacity = 8;
+        while (capacity < entries.size() * 2) {
+            capacity <<= 1;
+        }
+
+        this.keys = new String[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+
+        int count = 0;
+        for (Map.Entry<String, V> entry : entries.entrySet()) {
+            String key = fold(entry.getKey());
+            int slot = hash(key, 0, key.length()) & mask;
+            while (keys[slot] != null && !keys[slot].equals(key)) {
+                slot = (slot + 1) & mask;
+            }
+            if (keys[slot] == null) {
+                count++;
+            }
+            keys[slot] = key;
+            values[slot] = entry.getValue();
+        }
+        this.size = count;
+    }
+
+    /**
+     * Slot index of the key matching chars[start, end) ignoring ASCII case, or -1
+     */
+    int indexOf(char[] chars, int start, int end) {
+        int slot = hash(chars, start, end) & mask;
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (matches(key, chars, start, end)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Slot index of the key matching text[start, end) ignoring ASCII case, or -1
+     */
+    int indexOf(CharSequence text, int start, int end) {
+        int slot = hash(text, start, end) & mask;
+        String key;
+        while ((key = keys[slot]) != null) {
+            if (matches(key, text, start, end)) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    String keyAt(int slot) {
+        return keys[slot];
+    }
+
+    @SuppressWarnings("unchecked")
+    V valueAt(int slot) {
+        return (V) values[slot];
+    }
+
+    V get(CharSequence text) {
+        if (text == null) return null;
+        int slot = indexOf(text, 0, text.length());
+        return slot < 0 ? null : valueAt(slot);
+    }
+
+    boolean containsKey(CharSequence text) {
+        return text != null && indexOf(text, 0, text.length()) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    static char fold(char c) {
+        return (c >= 'a' && c <= 'z') ? (char) (c - ('a' - 'A')) : c;
+    }
+
+    static String fold(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= 'a' && c <= 'z') {
+                char[] folded = text.toCharArray();
+                for (int j = i; j < folded.length; j++) {
+                    folded[j] = fold(folded[j]);
+                }
+                return new String(folded);
+            }
+        }
+        return text;
+    }
+
+    private static int hash(char[] chars, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + fold(chars[i]);
+        }
+        return spread(h);
+    }
+
+    /**
+     * Case-folded hash of text[start, end); also used for the compiled
+     * dictionary index, so changing it requires a dictionary version bump
+     */
+    static int hash(CharSequence text, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + fold(text.charAt(i));
+        }
+        return spread(h);
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(String key, char[] chars, int start, int end) {
+        if (key.length() != end - start) return false;
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != fold(chars[start + i])) return false;
+        }
+        return true;
+    }
+
+    private static boolean matches(String key, CharSequence text, int start, int end) {
+        if (key.length() != end - start) return false;
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) != fold(text.charAt(start + i))) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.echosign.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Declarative ASL word-order rules compiled into a per-token action table.
+ * Each rule names a category of gloss words and where that category goes in
+ * the sentence (fronted, or moved to the end), optionally rewriting the word.
+ * Compilation maps every listed word to a single action, so applying the
+ * grammar is one table probe per token and one pass per sentence no matter
+ * how many rules are declared.
+ */
+public final class GlossGrammar {
+
+    public enum Placement { FRONT, END }
+
+    /**
+     * One word-order rule over a category of gloss words
+     */
+    public static final class Rule {
+        private final String category;
+        private final Placement placement;
+        private final String[] words;
+        private final String replacement;
+
+        private Rule(String category, Placement placement, String[] words, String replacement) {
+            this.category = category;
+            this.placement = placement;
+            this.words = words;
+            this.replacement = replacement;
+        }
+
+        public static Rule moveToFront(String category, String... words) {
+            return new Rule(category, Placement.FRONT, words, null);
+        }
+
+        public static Rule moveToEnd(String category, String... words) {
+            return new Rule(category, Placement.END, words, null);
+        }
+
+        /**
+         * Same rule, but every matched word is replaced by the given gloss
+         */
+        public Rule rewriteTo(String gloss) {
+            return new Rule(category, placement, words, gloss);
+        }
+
+        public String getCategory() { return category; }
+        public Placement getPlacement() { return placement; }
+    }
+
+    // Actions are rule indexes; END rules order their tokens by declaration
+    private final FoldedKeyTable<Integer> actions;
+    private final boolean[] actionFronts;
+    private final String[] actionReplacements;
+    private final int ruleCount;
+
+    public GlossGrammar(List<Rule> rules) {
+        Map<String, Integer> wordActions = new HashMap<>();
+        this.actionFronts = new boolean[rules.size()];
+        this.actionReplacements = new String[rules.size()];
+
+        for (int action = 0; action < rules.size(); action++) {
+            Rule rule = rules.get(action);
+            actionFronts[action] = rule.placement == Placement.FRONT;
+            actionReplacements[action] = rule.replacement;
+
+            // The first rule that lists a word wins
+            for (String word : rule.words) {
+                String key = FoldedKeyTable.fold(word);
+                if (!wordActions.containsKey(key)) {
+                    wordActions.put(key, action);
+                }
+            }
+        }
+
+        this.actions = new FoldedKeyTable<>(wordActions);
+        this.ruleCount = rules.size();
+    }
+
+    public GlossGrammar(Rule... rules) {
+        this(Arrays.asList(rules));
+    }
+
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    public State newState() {
+        return new State();
+    }
+
+    /**
+     * Word-order state for the sentence being converted. Tokens with no rule
+     * and fronted tokens pass straight through when streaming; tokens moved
+     * to the end are held until the sentence closes. A fronted token that
+     * arrives after other tokens of its sentence were streamed can no longer
+     * go first; hasLateFront() reports it.
+     */
+    public final class State {
+        private final List<String> front = new ArrayList<>();
+        private final List<String> body = new ArrayList<>();
+        private final List<String> end = new ArrayList<>();
+        private int[] endActions = new int[8];
+        // Tokens of this sentence already streamed that a fronted token should precede
+        private int streamedBody = 0;
+        private boolean lateFront = false;
+
+        /**
+         * @param streaming when true, tokens that are not moved to the end are
+         *                  written to out immediately instead of waiting for
+         *                  the sentence to close
+         */
+        public void add(String token, List<String> out, boolean streaming) {
+            int slot = actions.indexOf(token, 0, token.length());
+            if (slot < 0) {
+                if (streaming) {
+                    out.add(token);
+                    streamedBody++;
+                } else {
+                    body.add(token);
+                }
+                return;
+            }
+
+            int action = actions.valueAt(slot);
+            String gloss = actionReplacements[action] != null ? actionReplacements[action] : token;
+            if (actionFronts[action]) {
+                if (streamedBody > 0) {
+                    lateFront = true;
+                }
+                (streaming ? out : front).add(gloss);
+                return;
+            }
+
+            // Insertion keeps END tokens ordered by rule, then by arrival
+            int index = end.size();
+            if (index == endActions.length) {
+                endActions = Arrays.copyOf(endActions, index * 2);
+            }
+            while (index > 0 && endActions[index - 1] > action) {
+                endActions[index] = endActions[index - 1];
+                index--;
+            }
+            endActions[index] = action;
+            end.add(index, gloss);
+        }
+
+        /**
+         * Write the finished sentence: fronted tokens, the rest, then moved tokens
+         */
+        public void closeSentence(List<String> out) {
+            out.addAll(front);
+            out.addAll(body);
+            out.addAll(end);
+            clearSentence();
+        }
+
+        public boolean isEmpty() {
+            return front.isEmpty() && body.isEmpty() && end.isEmpty();
+        }
+
+        /**
+         * True when, since the last reset(), a fronted token came after
+         * tokens of its sentence had already been streamed, so the streamed
+         * order differs from a one-shot conversion
+         */
+        public boolean hasLateFront() {
+            return lateFront;
+        }
+
+        public void reset() {
+            clearSentence();
+            lateFront = false;
+        }
+
+        private void clearSentence() {
+            front.clear();
+            body.clear();
+            end.clear();
+            streamedBody = 0;
+        }
+    }
+}
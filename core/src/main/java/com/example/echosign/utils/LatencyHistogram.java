@@ -0,0 +1,113 @@
+package com.example.echosign.utils;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear latency histogram in the style of HdrHistogram.
+ * Values are recorded in microseconds into 1024 buckets: exact below 64us,
+ * then 32 linear sub-buckets per power of two (about 3% relative error) up to
+ * roughly 19 hours. Recording is O(1) and never allocates.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;
+    private static final long MAX_MICROS = (1L << 36) - 1;
+    private static final int BUCKET_COUNT = indexOf(MAX_MICROS) + 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount = 0;
+    private long totalMicros = 0;
+    private long maxMicros = 0;
+
+    public synchronized void recordNanos(long nanos) {
+        recordMicros(nanos / 1000);
+    }
+
+    public synchronized void recordMicros(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_MICROS));
+        counts[indexOf(value)]++;
+        totalCount++;
+        totalMicros += value;
+        if (value > maxMicros) {
+            maxMicros = value;
+        }
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getMaxMicros() {
+        return maxMicros;
+    }
+
+    public synchronized double getMeanMicros() {
+        return totalCount == 0 ? 0 : (double) totalMicros / totalCount;
+    }
+
+    /**
+     * Value at the given percentile (0-100) in microseconds
+     */
+    public synchronized long getPercentileMicros(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        long target = Math.max(1, (long) Math.ceil(totalCount * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), maxMicros);
+            }
+        }
+        return maxMicros;
+    }
+
+    /**
+     * Number of recorded values strictly above the given bound
+     */
+    public synchronized long countAboveMicros(long micros) {
+        long above = 0;
+        for (int i = counts.length - 1; i >= 0 && lowestEquivalentValue(i) > micros; i--) {
+            above += counts[i];
+        }
+        return above;
+    }
+
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalMicros = 0;
+        maxMicros = 0;
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_LIMIT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        return LINEAR_LIMIT
+                + (exponent - (SUB_BUCKET_BITS + 1)) * SUB_BUCKETS
+                + (int) ((value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS);
+    }
+
+    private static long lowestEquivalentValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        int offset = index - LINEAR_LIMIT;
+        int exponent = offset / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        long subBucket = offset % SUB_BUCKETS + SUB_BUCKETS;
+        return subBucket << (exponent - SUB_BUCKET_BITS);
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < LINEAR_LIMIT) {
+            return index;
+        }
+        return lowestEquivalentValue(index + 1) - 1;
+    }
+}
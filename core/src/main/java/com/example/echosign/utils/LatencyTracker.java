@@ -0,0 +1,126 @@
+package com.example.echosign.utils;
+
+/**
+ * Per-stage latency instrumentation for speech -> gloss -> lookup -> render.
+ * Each stage keeps an in-memory LatencyHistogram; an Utterance ties the
+ * stages of one recognition together so end-to-end time is measured from
+ * the end of speech. Optional per-stage budgets count violations.
+ */
+public class LatencyTracker {
+
+    public enum Stage {
+        RECOGNITION("Speech end -> recognition result"),
+        GLOSS("Gloss conversion"),
+        PLAN("Sign plan build (lookups)"),
+        SPEECH_TO_PLAN("Speech end -> sign plan ready"),
+        RESOURCE("Clip resource lookup"),
+        DECODE("Clip load + decode"),
+        SPEECH_TO_FIRST_SIGN("Speech end -> first sign frame");
+
+        private final String label;
+
+        Stage(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Stage.values().length];
+    private final long[] budgetMicros = new long[Stage.values().length];
+
+    public LatencyTracker() {
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Latency budget for a stage; 0 disables it
+     */
+    public void setBudgetMillis(Stage stage, long millis) {
+        budgetMicros[stage.ordinal()] = millis * 1000;
+    }
+
+    /**
+     * Record the time elapsed since startNanos (from System.nanoTime())
+     */
+    public void recordSince(Stage stage, long startNanos) {
+        histograms[stage.ordinal()].recordNanos(System.nanoTime() - startNanos);
+    }
+
+    public LatencyHistogram getHistogram(Stage stage) {
+        return histograms[stage.ordinal()];
+    }
+
+    /**
+     * Start timing a new utterance at the end of speech
+     */
+    public Utterance beginUtterance() {
+        return new Utterance(System.nanoTime());
+    }
+
+    /**
+     * Timestamps for one utterance, measured from the end of speech
+     */
+    public final class Utterance {
+        private final long speechEndNanos;
+        private boolean planReady = false;
+        private boolean firstSignShown = false;
+
+        private Utterance(long speechEndNanos) {
+            this.speechEndNanos = speechEndNanos;
+        }
+
+        public void markRecognized() {
+            recordSince(Stage.RECOGNITION, speechEndNanos);
+        }
+
+        public void markPlanReady() {
+            if (!planReady) {
+                planReady = true;
+                recordSince(Stage.SPEECH_TO_PLAN, speechEndNanos);
+            }
+        }
+
+        public void markFirstSign() {
+            if (!firstSignShown) {
+                firstSignShown = true;
+                recordSince(Stage.SPEECH_TO_FIRST_SIGN, speechEndNanos);
+            }
+        }
+    }
+
+    /**
+     * Percentile table for every stage that has samples
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        report.append("Latency (ms)        count    p50    p90    p99    max  over budget\n");
+
+        for (Stage stage : Stage.values()) {
+            LatencyHistogram histogram = histograms[stage.ordinal()];
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+
+            long budget = budgetMicros[stage.ordinal()];
+            report.append(stage.getLabel()).append('\n');
+            report.append(String.format("                 %8d %6.1f %6.1f %6.1f %6.1f  %s\n",
+                    histogram.getCount(),
+                    histogram.getPercentileMicros(50) / 1000.0,
+                    histogram.getPercentileMicros(90) / 1000.0,
+                    histogram.getPercentileMicros(99) / 1000.0,
+                    histogram.getMaxMicros() / 1000.0,
+                    budget == 0 ? "-" : histogram.countAboveMicros(budget) + " (> " + budget / 1000 + " ms)"));
+        }
+
+        return report.toString();
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : histograms) {
+            histogram.reset();
+        }
+    }
+}
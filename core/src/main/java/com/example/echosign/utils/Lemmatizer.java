@@ -0,0 +1,255 @@
+package com.example.echosign.utils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Rule-based English inflection for uppercase gloss words.
+ * inflect() generates the surface forms of a dictionary word (plurals,
+ * -ING, -ED, common suffixes, irregular forms) so the dictionary compiler can
+ * precompute a form -> sign index; lemmaCandidates() runs the same rules
+ * backwards for words that index does not cover.
+ *
+ * Only suffixes that keep the meaning of the word are stripped. Negating
+ * affixes (UN-, DIS-, -LESS) would show the opposite sign (UNHAPPY -> HAPPY),
+ * and RE-/PRE- rarely keep it (RESTORE, PRESENT), so such words need an
+ * authored alias (unhappy,sad) or are fingerspelled.
+ *
+ * Regular rules skip lemmas under three letters and the pronouns and
+ * question words that contractions turn into lookalikes (WHO'S -> WHOS), and
+ * never produce a word the gloss converter already knows (HIS is not HI).
+ */
+final class Lemmatizer {
+
+    static final int KIND_PLURAL = 1;
+    static final int KIND_RELATED = 2;
+
+    /**
+     * Receives generated forms or candidate lemmas
+     */
+    interface Sink {
+        void accept(String word, int kind);
+    }
+
+    private static final String[] SUFFIXES = {"FUL", "ABLE", "MENT"};
+    private static final int MIN_REGULAR_LEMMA = 3;
+
+    // Lemmas with no regular forms
+    private static final Set<String> UNINFLECTED = new HashSet<>(Arrays.asList(
+            "YOU", "HE", "SHE", "IT", "WE", "THEY", "THAT", "THIS", "THERE", "HERE",
+            "WHAT", "WHERE", "WHEN", "WHY", "HOW", "WHO", "WHICH", "NOW", "THEN", "YES"
+    ));
+
+    // Irregular surface form -> lemma
+    private static final Map<String, String> IRREGULAR_VERBS = new HashMap<>();
+    private static final Map<String, String> IRREGULAR_PLURALS = new HashMap<>();
+
+    static {
+        String[][] verbs = {
+                {"ATE", "EAT"}, {"EATEN", "EAT"}, {"DRANK", "DRINK"}, {"DRUNK", "DRINK"},
+                {"SLEPT", "SLEEP"}, {"WENT", "GO"}, {"GONE", "GO"}, {"SAW", "SEE"},
+                {"SEEN", "SEE"}, {"CAME", "COME"}, {"GAVE", "GIVE"}, {"GIVEN", "GIVE"},
+                {"TOOK", "TAKE"}, {"TAKEN", "TAKE"}, {"MADE", "MAKE"}, {"SAID", "SAY"},
+                {"KNEW", "KNOW"}, {"KNOWN", "KNOW"}, {"THOUGHT", "THINK"}, {"BOUGHT", "BUY"},
+                {"BROUGHT", "BRING"}, {"FELT", "FEEL"}, {"LEFT", "LEAVE"}, {"MET", "MEET"},
+                {"RAN", "RUN"}, {"SAT", "SIT"}, {"STOOD", "STAND"}, {"TOLD", "TELL"},
+                {"WROTE", "WRITE"}, {"WRITTEN", "WRITE"}, {"FOUND", "FIND"}, {"GOT", "GET"},
+                {"HAD", "HAVE"}, {"HAS", "HAVE"}, {"DID", "DO"}, {"DOES", "DO"},
+                {"BETTER", "GOOD"}, {"BEST", "GOOD"}, {"WORSE", "BAD"}, {"WORST", "BAD"}
+        };
+        for (String[] pair : verbs) {
+            IRREGULAR_VERBS.put(pair[0], pair[1]);
+        }
+
+        String[][] plurals = {
+                {"CHILDREN", "CHILD"}, {"MEN", "MAN"}, {"WOMEN", "WOMAN"}, {"PEOPLE", "PERSON"},
+                {"FEET", "FOOT"}, {"TEETH", "TOOTH"}, {"MICE", "MOUSE"}, {"WIVES", "WIFE"},
+                {"LIVES", "LIFE"}, {"KNIVES", "KNIFE"}
+        };
+        for (String[] pair : plurals) {
+            IRREGULAR_PLURALS.put(pair[0], pair[1]);
+        }
+    }
+
+    private Lemmatizer() {
+    }
+
+    /**
+     * Surface forms of an uppercase lemma (the lemma itself excluded)
+     */
+    static void inflect(String lemma, final Sink out) {
+        if (!isLetters(lemma)) {
+            return;
+        }
+        Sink forms = new Sink() {
+            @Override
+            public void accept(String word, int kind) {
+                if (!ASLGlossConverter.isGrammarWord(word)) {
+                    out.accept(word, kind);
+                }
+            }
+        };
+        inflectIrregular(lemma, forms);
+        if (hasRegularForms(lemma)) {
+            inflectRegular(lemma, forms);
+        }
+    }
+
+    private static void inflectIrregular(String lemma, Sink out) {
+        for (Map.Entry<String, String> entry : IRREGULAR_PLURALS.entrySet()) {
+            if (entry.getValue().equals(lemma)) out.accept(entry.getKey(), KIND_PLURAL);
+        }
+        for (Map.Entry<String, String> entry : IRREGULAR_VERBS.entrySet()) {
+            if (entry.getValue().equals(lemma)) out.accept(entry.getKey(), KIND_RELATED);
+        }
+    }
+
+    private static void inflectRegular(String lemma, Sink out) {
+        int n = lemma.length();
+        char last = lemma.charAt(n - 1);
+        boolean consonantY = last == 'Y' && n > 1 && !isVowel(lemma.charAt(n - 2));
+        boolean silentE = last == 'E' && n > 2 && lemma.charAt(n - 2) != 'E';
+        String stem = lemma.substring(0, n - 1);
+
+        // Plurals / third person
+        out.accept(lemma + "S", KIND_PLURAL);
+        if (endsWithSibilant(lemma)) {
+            out.accept(lemma + "ES", KIND_PLURAL);
+        } else if (consonantY) {
+            out.accept(stem + "IES", KIND_PLURAL);
+        }
+
+        // -ING and -ED
+        if (lemma.endsWith("IE")) {
+            out.accept(lemma.substring(0, n - 2) + "YING", KIND_RELATED);
+        } else if (silentE) {
+            out.accept(stem + "ING", KIND_RELATED);
+        }
+        out.accept(lemma + "ING", KIND_RELATED);
+
+        if (last == 'E') {
+            out.accept(lemma + "D", KIND_RELATED);
+        } else if (consonantY) {
+            out.accept(stem + "IED", KIND_RELATED);
+        } else {
+            out.accept(lemma + "ED", KIND_RELATED);
+        }
+
+        if (isShortConsonantVowelConsonant(lemma)) {
+            out.accept(lemma + last + "ING", KIND_RELATED);
+            out.accept(lemma + last + "ED", KIND_RELATED);
+        }
+
+        // Common suffixes
+        for (String suffix : SUFFIXES) {
+            out.accept(lemma + suffix, KIND_RELATED);
+            if (consonantY) {
+                out.accept(stem + "I" + suffix, KIND_RELATED);
+            }
+        }
+        if (silentE) {
+            out.accept(stem + "ABLE", KIND_RELATED);
+        }
+    }
+
+    /**
+     * Possible lemmas of an uppercase word, most likely first. Suffix removal
+     * is applied up to twice.
+     */
+    static void lemmaCandidates(String word, final Sink out) {
+        if (!isLetters(word) || ASLGlossConverter.isGrammarWord(word)) {
+            return;
+        }
+        Sink regular = new Sink() {
+            @Override
+            public void accept(String lemma, int kind) {
+                if (hasRegularForms(lemma)) {
+                    out.accept(lemma, kind);
+                }
+            }
+        };
+        candidates(word, out, regular, 2, KIND_PLURAL);
+    }
+
+    private static boolean hasRegularForms(String lemma) {
+        return lemma.length() >= MIN_REGULAR_LEMMA && !UNINFLECTED.contains(lemma);
+    }
+
+    // Irregular lemmas go to out, rule-based ones through regular
+    private static void candidates(String word, Sink out, Sink regular, int depth, int pluralKind) {
+        int n = word.length();
+
+        String irregular = IRREGULAR_PLURALS.get(word);
+        if (irregular != null) out.accept(irregular, pluralKind);
+        irregular = IRREGULAR_VERBS.get(word);
+        if (irregular != null) out.accept(irregular, KIND_RELATED);
+
+        if (n > 3 && word.endsWith("IES")) regular.accept(word.substring(0, n - 3) + "Y", pluralKind);
+        if (n > 3 && word.endsWith("ES")) regular.accept(word.substring(0, n - 2), pluralKind);
+        if (n > 2 && word.endsWith("S") && !word.endsWith("SS")) regular.accept(word.substring(0, n - 1), pluralKind);
+
+        if (n > 5 && word.endsWith("YING")) regular.accept(word.substring(0, n - 4) + "IE", KIND_RELATED);
+        if (n > 4 && word.endsWith("ING")) {
+            String stem = word.substring(0, n - 3);
+            regular.accept(stem, KIND_RELATED);
+            regular.accept(stem + "E", KIND_RELATED);
+            if (hasDoubledEnding(stem)) regular.accept(stem.substring(0, stem.length() - 1), KIND_RELATED);
+        }
+
+        if (n > 4 && word.endsWith("IED")) regular.accept(word.substring(0, n - 3) + "Y", KIND_RELATED);
+        if (n > 3 && word.endsWith("ED")) {
+            String stem = word.substring(0, n - 2);
+            regular.accept(stem, KIND_RELATED);
+            regular.accept(stem + "E", KIND_RELATED);
+            if (hasDoubledEnding(stem)) regular.accept(stem.substring(0, stem.length() - 1), KIND_RELATED);
+        }
+
+        if (depth == 0) {
+            return;
+        }
+        for (String suffix : SUFFIXES) {
+            if (word.endsWith(suffix) && n > suffix.length() + 1) {
+                String rest = word.substring(0, n - suffix.length());
+                regular.accept(rest, KIND_RELATED);
+                if (rest.endsWith("I")) regular.accept(rest.substring(0, rest.length() - 1) + "Y", KIND_RELATED);
+                if (suffix.equals("ABLE")) regular.accept(rest + "E", KIND_RELATED);
+                candidates(rest, out, regular, depth - 1, KIND_RELATED);
+            }
+        }
+    }
+
+    private static boolean isLetters(String word) {
+        if (word.isEmpty()) return false;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (c < 'A' || c > 'Z') return false;
+        }
+        return true;
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'A' || c == 'E' || c == 'I' || c == 'O' || c == 'U';
+    }
+
+    private static boolean endsWithSibilant(String word) {
+        return word.endsWith("S") || word.endsWith("X") || word.endsWith("Z")
+                || word.endsWith("CH") || word.endsWith("SH");
+    }
+
+    // STOP -> STOPPING; only short words, where the final syllable is stressed
+    private static boolean isShortConsonantVowelConsonant(String word) {
+        int n = word.length();
+        if (n < 3 || n > 4) return false;
+        char last = word.charAt(n - 1);
+        return !isVowel(last) && last != 'W' && last != 'X' && last != 'Y'
+                && isVowel(word.charAt(n - 2)) && !isVowel(word.charAt(n - 3));
+    }
+
+    private static boolean hasDoubledEnding(String stem) {
+        int n = stem.length();
+        return n > 2 && stem.charAt(n - 1) == stem.charAt(n - 2) && !isVowel(stem.charAt(n - 1));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.echosign.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compiled phrase automaton over word IDs.
+ * Every word that appears in some phrase gets a small integer ID; phrases are
+ * inserted as ID sequences into a trie that is then flattened into sorted
+ * child arrays, so a walk is one binary search per word and never allocates.
+ * Terminal nodes carry the gloss token the phrase collapses into, or null for
+ * filler phrases that are dropped entirely.
+ */
+final class PhraseTrie {
+
+    static final int NO_NODE = -1;
+    static final int ROOT = 0;
+
+    private final FoldedKeyTable<Integer> wordIds;
+
+    // Node n owns children childIds/childNodes[childStart[n], childStart[n + 1])
+    private final int[] childStart;
+    private final int[] childIds;
+    private final int[] childNodes;
+    private final boolean[] terminal;
+    private final String[] outputs;
+
+    /**
+     * @param phrases phrase text (space separated) mapped to its output token,
+     *                or to null when the phrase should be removed
+     */
+    PhraseTrie(Map<String, String> phrases) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<TreeMap<Integer, Integer>> children = new ArrayList<>();
+        List<String> nodeOutputs = new ArrayList<>();
+        List<Boolean> nodeTerminal = new ArrayList<>();
+        children.add(new TreeMap<Integer, Integer>());
+        nodeOutputs.add(null);
+        nodeTerminal.add(false);
+
+        for (Map.Entry<String, String> phrase : phrases.entrySet()) {
+            String[] words = FoldedKeyTable.fold(phrase.getKey().trim()).split("\\s+");
+            if (words.length < 2) {
+                continue;
+            }
+
+            int node = ROOT;
+            for (String word : words) {
+                Integer id = ids.get(word);
+                if (id == null) {
+                    id = ids.size();
+                    ids.put(word, id);
+                }
+
+                Integer child = children.get(node).get(id);
+                if (child == null) {
+                    child = children.size();
+                    children.get(node).put(id, child);
+                    children.add(new TreeMap<Integer, Integer>());
+                    nodeOutputs.add(null);
+                    nodeTerminal.add(false);
+                }
+                node = child;
+            }
+            nodeTerminal.set(node, true);
+            nodeOutputs.set(node, phrase.getValue());
+        }
+
+        int nodeCount = children.size();
+        this.wordIds = new FoldedKeyTable<>(ids);
+        this.childStart = new int[nodeCount + 1];
+        this.childIds = new int[nodeCount - 1];
+        this.childNodes = new int[nodeCount - 1];
+        this.terminal = new boolean[nodeCount];
+        this.outputs = new String[nodeCount];
+
+        int edge = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            childStart[node] = edge;
+            for (Map.Entry<Integer, Integer> child : children.get(node).entrySet()) {
+                childIds[edge] = child.getKey();
+                childNodes[edge] = child.getValue();
+                edge++;
+            }
+            terminal[node] = nodeTerminal.get(node);
+            outputs[node] = nodeOutputs.get(node);
+        }
+        childStart[nodeCount] = edge;
+    }
+
+    /**
+     * ID of the word in chars[0, length), or -1 when it is not part of any phrase
+     */
+    int wordId(char[] chars, int length) {
+        if (wordIds.size() == 0) return -1;
+        int slot = wordIds.indexOf(chars, 0, length);
+        return slot < 0 ? -1 : wordIds.valueAt(slot);
+    }
+
+    int child(int node, int wordId) {
+        int low = childStart[node];
+        int high = childStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int id = childIds[mid];
+            if (id < wordId) {
+                low = mid + 1;
+            } else if (id > wordId) {
+                high = mid - 1;
+            } else {
+                return childNodes[mid];
+            }
+        }
+        return NO_NODE;
+    }
+
+    boolean hasChildren(int node) {
+        return childStart[node + 1] > childStart[node];
+    }
+
+    boolean isTerminal(int node) {
+        return terminal[node];
+    }
+
+    String output(int node) {
+        return outputs[node];
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.echosign.utils;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Build-time metadata of one bundled sign clip, as measured by ClipTranscoder
+ * after transcoding (see SignClipManifest). Immutable.
+ */
+public final class SignClip {
+
+    private final String name;
+    private final int frameCount;
+    private final int durationMillis;
+    private final int width;
+    private final int height;
+    private final long bytes;
+    private final ByteBuffer thumbnail;
+
+    SignClip(String name, int frameCount, int durationMillis, int width, int height, long bytes,
+             ByteBuffer thumbnail) {
+        this.name = name;
+        this.frameCount = frameCount;
+        this.durationMillis = durationMillis;
+        this.width = width;
+        this.height = height;
+        this.bytes = bytes;
+        this.thumbnail = thumbnail;
+    }
+
+    /**
+     * Animation resource name (res/raw), as in ASLSign.getGifResource()
+     */
+    public String getName() { return name; }
+    public int getFrameCount() { return frameCount; }
+
+    /**
+     * Time one loop of the clip takes to play
+     */
+    public int getDurationMillis() { return durationMillis; }
+    public int getWidth() { return width; }
+    public int getHeight() { return height; }
+
+    /**
+     * Size of the clip file in the APK
+     */
+    public long getBytes() { return bytes; }
+
+    /**
+     * Decoded size of one ARGB_8888 frame
+     */
+    public long getFrameBytes() {
+        return (long) width * height * 4;
+    }
+
+    public boolean hasThumbnail() {
+        return thumbnail.remaining() > 0;
+    }
+
+    /**
+     * First frame as a small JPEG, for placeholders while the clip decodes;
+     * empty when the build could not render one
+     */
+    public byte[] getThumbnail() {
+        byte[] jpeg = new byte[thumbnail.remaining()];
+        thumbnail.duplicate().get(jpeg);
+        return jpeg;
+    }
+
+    @Override
+    public String toString() {
+        return name + " " + width + "x" + height + ", " + frameCount + " frames, " + durationMillis + " ms";
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.echosign.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Metadata of every bundled sign clip, written by ClipTranscoder when the
+ * clips are transcoded and loaded next to the dictionary, so playback,
+ * prefetching and the UI know a clip's length, size and first frame without
+ * decoding it. There is one entry per clip file, so the records are decoded
+ * up front; thumbnails stay in the (typically memory-mapped) buffer.
+ *
+ * Layout (big-endian):
+ *   int magic "ASLC", int version, int clipCount, int stringTableBytes,
+ *   int thumbnailBytes
+ *   clipCount records of CLIP_INTS ints, sorted by resource name:
+ *     name (offset, length) into the string table, frame count, duration
+ *     in ms, width, height, file bytes, thumbnail (offset, length)
+ *   string table (UTF-8)
+ *   thumbnails (JPEG)
+ */
+public final class SignClipManifest {
+
+    // Asset name in the app, next to ASLDictionary.ASSET_NAME
+    public static final String ASSET_NAME = "asl_clips.bin";
+
+    static final int MAGIC = 0x41534C43; // "ASLC"
+    static final int VERSION = 1;
+    static final int CLIP_INTS = 9;
+    static final int HEADER_BYTES = 20;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * No clip metadata, e.g. off-device where there are no clips
+     */
+    public static final SignClipManifest EMPTY = new SignClipManifest(new String[0], new SignClip[0]);
+
+    private final String[] names;
+    private final SignClip[] clips;
+
+    private SignClipManifest(String[] names, SignClip[] clips) {
+        this.names = names;
+        this.clips = clips;
+    }
+
+    public SignClipManifest(ByteBuffer data) {
+        ByteBuffer buffer = data.duplicate();
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        int base = buffer.position();
+
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt(base) != MAGIC) {
+            throw new IllegalArgumentException("Not a sign clip manifest");
+        }
+        int version = buffer.getInt(base + 4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported clip manifest version " + version);
+        }
+        int count = buffer.getInt(base + 8);
+        int stringBytes = buffer.getInt(base + 12);
+        int thumbnailBytes = buffer.getInt(base + 16);
+        int stringsStart = base + HEADER_BYTES + count * CLIP_INTS * 4;
+        int thumbnailsStart = stringsStart + stringBytes;
+        if (count < 0 || stringBytes < 0 || thumbnailBytes < 0
+                || thumbnailsStart + thumbnailBytes > buffer.limit()) {
+            throw new IllegalArgumentException("Truncated sign clip manifest");
+        }
+
+        this.names = new String[count];
+        this.clips = new SignClip[count];
+        for (int i = 0; i < count; i++) {
+            int record = base + HEADER_BYTES + i * CLIP_INTS * 4;
+            byte[] name = new byte[buffer.getInt(record + 4)];
+            ByteBuffer view = buffer.duplicate();
+            view.position(stringsStart + buffer.getInt(record));
+            view.get(name);
+            names[i] = new String(name, UTF_8);
+
+            ByteBuffer thumbnail = buffer.duplicate();
+            thumbnail.position(thumbnailsStart + buffer.getInt(record + 28));
+            thumbnail.limit(thumbnail.position() + buffer.getInt(record + 32));
+            clips[i] = new SignClip(names[i],
+                    buffer.getInt(record + 8),
+                    buffer.getInt(record + 12),
+                    buffer.getInt(record + 16),
+                    buffer.getInt(record + 20),
+                    buffer.getInt(record + 24) & 0xffffffffL,
+                    thumbnail.slice().asReadOnlyBuffer());
+            if (i > 0 && names[i - 1].compareTo(names[i]) >= 0) {
+                throw new IllegalArgumentException("Sign clip manifest is not sorted");
+            }
+        }
+    }
+
+    /**
+     * Metadata for a clip by resource name (ASLSign.getGifResource()), or null
+     */
+    public SignClip get(String resourceName) {
+        if (resourceName == null) return null;
+        int i = Arrays.binarySearch(names, resourceName);
+        return i >= 0 ? clips[i] : null;
+    }
+
+    public int size() {
+        return clips.length;
+    }
+}
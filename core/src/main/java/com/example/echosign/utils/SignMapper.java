@@ -0,0 +1,322 @@
+package com.example.echosign.utils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Updated SignMapper that uses the new ASL Dictionary
+ */
+public class SignMapper {
+
+    private static final String TAG = "SignMapper";
+    private static final int RESOLUTION_CACHE_SIZE = 2048;
+
+    /**
+     * Maps a sign's animation resource name to its id (0 = no such clip)
+     */
+    public interface ResourceResolver {
+        int resourceId(String resourceName);
+    }
+
+    private ASLDictionary aslDictionary;
+    private final ResourceResolver resourceResolver;
+    private ASLGlossConverter glossConverter;
+
+    // Finished playback plans for repeated utterances
+    private final TranslationCache planCache = new TranslationCache(256, 256 * 1024);
+
+    // Resolved gloss tokens, keyed on the normalized token
+    private final Map<String, SignResolution> resolutions =
+            new LinkedHashMap<String, SignResolution>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, SignResolution> eldest) {
+                    return size() > RESOLUTION_CACHE_SIZE;
+                }
+            };
+    private long resolutionHits = 0;
+    private long resolutionMisses = 0;
+
+    public SignMapper() {
+        this(new ASLDictionary());
+    }
+
+    public SignMapper(ASLDictionary aslDictionary) {
+        this(aslDictionary, null);
+    }
+
+    public SignMapper(ASLDictionary aslDictionary, ResourceResolver resourceResolver) {
+        this.aslDictionary = aslDictionary;
+        this.resourceResolver = resourceResolver;
+        this.glossConverter = new ASLGlossConverter(aslDictionary.getPhrases());
+
+        // Log dictionary statistics (the full listing is logDictionaryDump())
+        if (EchoLog.isLoggable(EchoLog.DEBUG)) {
+            EchoLog.d(TAG, "{}", aslDictionary.getDictionaryStats());
+        }
+    }
+
+    /**
+     * Debug action: write every dictionary entry to the log
+     */
+    public void logDictionaryDump() {
+        EchoLog.i(TAG, "{}", aslDictionary.getAllSigns());
+    }
+
+    /**
+     * Process text through ASL Gloss conversion
+     */
+    public String processTextWithASLGloss(String englishText) {
+        if (englishText == null || englishText.trim().isEmpty()) {
+            return "";
+        }
+
+        return glossConverter.convertToASLGloss(englishText);
+    }
+
+    /**
+     * Start an incremental ASL Gloss conversion for partial speech results.
+     * The session scans with its own converter, so other calls on this
+     * mapper can run alongside it.
+     */
+    public ASLGlossConverter.Session newGlossSession() {
+        return new ASLGlossConverter(aslDictionary.getPhrases()).newSession();
+    }
+
+    /**
+     * Create a parallel translator for bulk jobs (transcripts, signage text).
+     * Call {@link BatchTranslator#shutdown()} when the job is done.
+     */
+    public BatchTranslator newBatchTranslator() {
+        return new BatchTranslator(aslDictionary.getPhrases());
+    }
+
+    /**
+     * Background stage that turns speech results into SignPlans off the UI
+     * thread. Call {@link SignPlanCompiler#shutdown()} when done.
+     */
+    public SignPlanCompiler newPlanCompiler(LatencyTracker latencyTracker) {
+        return new SignPlanCompiler(this, new ASLGlossConverter(aslDictionary.getPhrases()), latencyTracker);
+    }
+
+    /**
+     * Tokenize ASL Gloss text
+     */
+    public String[] tokenizeASLGloss(String aslGloss) {
+        if (aslGloss == null || aslGloss.trim().isEmpty()) {
+            return new String[0];
+        }
+
+        return aslGloss.split("\\s+");
+    }
+
+    /**
+     * Resolve a gloss token to the sign it is shown with: the dictionary word
+     * itself, an alias, an inflected form of a dictionary word, or
+     * fingerspelling. Each distinct token is resolved once and cached.
+     */
+    public SignResolution resolve(String glossWord) {
+        String key = normalizeToken(glossWord);
+        SignResolution resolution;
+        synchronized (resolutions) {
+            resolution = resolutions.get(key);
+            if (resolution != null) {
+                resolutionHits++;
+                return resolution;
+            }
+            resolutionMisses++;
+        }
+
+        resolution = lookup(key);
+        synchronized (resolutions) {
+            resolutions.put(key, resolution);
+        }
+        return resolution;
+    }
+
+    private SignResolution lookup(String key) {
+        ASLDictionary.ASLSign sign = aslDictionary.getSign(key);
+        if (sign != null) {
+            return resolution(key, sign, SignResolution.MatchKind.EXACT, null);
+        }
+
+        // Aliases and synonyms (src/main/dictionary/asl_aliases.csv)
+        sign = aslDictionary.findAlias(key);
+        if (sign != null) {
+            return resolution(key, sign, SignResolution.MatchKind.ALIAS, ASLDictionary.toGlossKey(sign.getWord()));
+        }
+
+        // Plurals and other inflections
+        ASLDictionary.LemmaMatch lemma = aslDictionary.findLemma(key);
+        if (lemma != null) {
+            SignResolution.MatchKind kind = lemma.isPlural()
+                    ? SignResolution.MatchKind.PLURAL : SignResolution.MatchKind.VARIATION;
+            return resolution(key, lemma.getSign(), kind, lemma.getLemma());
+        }
+
+        return new SignResolution(key, null, SignResolution.MatchKind.FINGERSPELL, null, 0, null);
+    }
+
+    private SignResolution resolution(String key, ASLDictionary.ASLSign sign, SignResolution.MatchKind kind,
+                                      String via) {
+        int resourceId = resourceResolver != null ? resourceResolver.resourceId(sign.getGifResource()) : 0;
+        SignClip clip = resourceId != 0 ? aslDictionary.getClip(sign) : null;
+        return new SignResolution(key, sign, kind, via, resourceId, clip);
+    }
+
+    /**
+     * Letters only, uppercase. Gloss tokens normally already are, and are
+     * returned as-is.
+     */
+    private static String normalizeToken(String glossWord) {
+        boolean clean = true;
+        for (int i = 0; i < glossWord.length() && clean; i++) {
+            char c = glossWord.charAt(i);
+            clean = c >= 'A' && c <= 'Z';
+        }
+        if (clean) {
+            return glossWord;
+        }
+
+        StringBuilder key = new StringBuilder(glossWord.length());
+        for (int i = 0; i < glossWord.length(); i++) {
+            char c = glossWord.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                key.append(FoldedKeyTable.fold(c));
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Check if ASL Gloss word has a sign in the dictionary
+     */
+    public boolean hasSignForGlossWord(String glossWord) {
+        if (glossWord == null || glossWord.trim().isEmpty()) {
+            return false;
+        }
+        return resolve(glossWord).hasSign();
+    }
+
+    /**
+     * Get detailed sign information for ASL Gloss word
+     */
+    public String getSignInfo(String glossWord) {
+        if (glossWord == null || glossWord.trim().isEmpty()) {
+            return "No sign available";
+        }
+        return resolve(glossWord).getInfo();
+    }
+
+    /**
+     * Get sign details object for richer information
+     */
+    public ASLDictionary.ASLSign getSignDetails(String glossWord) {
+        if (glossWord == null || glossWord.trim().isEmpty()) {
+            return null;
+        }
+        return resolve(glossWord).getSign();
+    }
+
+    /**
+     * Cached playback plan for this English text, or null on a miss
+     */
+    public SignPlan getCachedPlan(String englishText) {
+        if (englishText == null) {
+            return null;
+        }
+        return planCache.get(TranslationCache.normalize(englishText));
+    }
+
+    /**
+     * Build the playback plan for English text, reusing a cached plan when
+     * the same utterance was translated before
+     */
+    public SignPlan buildPlan(String englishText) {
+        SignPlan plan = getCachedPlan(englishText);
+        if (plan != null) {
+            return plan;
+        }
+        return buildPlan(englishText, glossConverter.convertToGlossTokens(englishText));
+    }
+
+    /**
+     * Resolve already converted gloss tokens into a playback plan and cache it
+     */
+    public SignPlan buildPlan(String englishText, List<String> glossTokens) {
+        List<SignResolution> resolved = new ArrayList<>(glossTokens.size());
+        for (String token : glossTokens) {
+            resolved.add(resolve(token));
+        }
+
+        SignPlan plan = new SignPlan(englishText, glossTokens, resolved);
+        planCache.put(TranslationCache.normalize(englishText), plan);
+        return plan;
+    }
+
+    /**
+     * Get translation cache statistics
+     */
+    public String getCacheStats() {
+        synchronized (resolutions) {
+            return planCache.getStats() + "\nResolved tokens: " + resolutions.size()
+                    + " (" + resolutionHits + " hits, " + resolutionMisses + " misses)";
+        }
+    }
+
+    /**
+     * Get dictionary statistics
+     */
+    public String getDictionaryInfo() {
+        return aslDictionary.getDictionaryStats();
+    }
+
+    /**
+     * Get example sentences
+     */
+    public String[] getExampleSentences() {
+        return aslDictionary.getExampleSentences();
+    }
+
+    /**
+     * Get all categories
+     */
+    public String[] getCategories() {
+        return aslDictionary.getCategories();
+    }
+
+    /**
+     * Page through a category for the sign browser
+     */
+    public List<ASLDictionary.ASLSign> getSignsInCategory(String category, int offset, int limit) {
+        return aslDictionary.getSignsInCategory(category, offset, limit);
+    }
+
+    public int getCategorySize(String category) {
+        return aslDictionary.getCategorySize(category);
+    }
+
+    /**
+     * Find signs by word, meaning or handshape as the user types
+     */
+    public List<ASLDictionary.ASLSign> searchSigns(String query, int limit) {
+        return aslDictionary.search(query, limit);
+    }
+
+    /**
+     * Warm category shards in the background before the first utterance
+     */
+    public void preloadCategories(String... categories) {
+        for (String category : categories) {
+            aslDictionary.preloadCategory(category);
+        }
+    }
+
+    /**
+     * Legacy method for compatibility
+     */
+    public boolean hasSignForWord(String word) {
+        return hasSignForGlossWord(word);
+    }
+}
\ No newline at end of file
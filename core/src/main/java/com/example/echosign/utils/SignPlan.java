@@ -0,0 +1,143 @@
+package com.example.echosign.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable playback plan for one utterance: the ASL Gloss tokens in order
+ * and how each token resolved (dictionary sign, alias, inflection or
+ * fingerspelling), plus everything playback needs precomputed: the clip to
+ * play or the letters to fingerspell, and how long each token stays on screen.
+ */
+public class SignPlan {
+
+    // A clip shows for its measured length (SIGN_DURATION_MS when unknown);
+    // fingerspelled words get FINGERSPELL_LETTER_MS per letter, but never
+    // less than SIGN_DURATION_MS
+    public static final long SIGN_DURATION_MS = 2000;
+    public static final long FINGERSPELL_LETTER_MS = 400;
+
+    private final String englishText;
+    private final List<String> tokens;
+    private final List<SignResolution> resolutions;
+    private final long[] durations;
+    private final long totalDuration;
+    private final int englishWordCount;
+
+    public SignPlan(String englishText, List<String> tokens, List<SignResolution> resolutions) {
+        if (tokens.size() != resolutions.size()) {
+            throw new IllegalArgumentException("tokens and resolutions must have the same size");
+        }
+        this.englishText = englishText;
+        this.tokens = Collections.unmodifiableList(new ArrayList<>(tokens));
+        this.resolutions = Collections.unmodifiableList(new ArrayList<>(resolutions));
+
+        this.durations = new long[tokens.size()];
+        long total = 0;
+        for (int i = 0; i < durations.length; i++) {
+            SignClip clip = getClip(i);
+            if (isFingerspelled(i)) {
+                durations[i] = Math.max(SIGN_DURATION_MS, getFingerspelling(i).length() * FINGERSPELL_LETTER_MS);
+            } else if (clip != null && clip.getDurationMillis() > 0) {
+                durations[i] = clip.getDurationMillis();
+            } else {
+                durations[i] = SIGN_DURATION_MS;
+            }
+            total += durations[i];
+        }
+        this.totalDuration = total;
+        this.englishWordCount = countWords(englishText);
+    }
+
+    public String getEnglishText() { return englishText; }
+    public List<String> getTokens() { return tokens; }
+    public int size() { return tokens.size(); }
+    public boolean isEmpty() { return tokens.isEmpty(); }
+
+    public String getToken(int index) {
+        return tokens.get(index);
+    }
+
+    /**
+     * Resolved sign for the token at index, or null when it will be fingerspelled
+     */
+    public ASLDictionary.ASLSign getSign(int index) {
+        return resolutions.get(index).getSign();
+    }
+
+    public SignResolution getResolution(int index) {
+        return resolutions.get(index);
+    }
+
+    /**
+     * Animation resource id for the token at index, or 0 when it is fingerspelled
+     */
+    public int getResourceId(int index) {
+        return resolutions.get(index).getResourceId();
+    }
+
+    /**
+     * Build-time metadata of the clip for the token at index, or null when
+     * it is fingerspelled or the clip was not measured
+     */
+    public SignClip getClip(int index) {
+        return resolutions.get(index).getClip();
+    }
+
+    /**
+     * True when the token has no clip to play (no sign, or the sign's clip is missing)
+     */
+    public boolean isFingerspelled(int index) {
+        return resolutions.get(index).getResourceId() == 0;
+    }
+
+    /**
+     * Letters to fingerspell for the token at index, empty when a clip plays
+     */
+    public String getFingerspelling(int index) {
+        return isFingerspelled(index) ? resolutions.get(index).getKey() : "";
+    }
+
+    public long getDurationMillis(int index) {
+        return durations[index];
+    }
+
+    public long getTotalDurationMillis() {
+        return totalDuration;
+    }
+
+    public int getEnglishWordCount() {
+        return englishWordCount;
+    }
+
+    private static int countWords(String text) {
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean space = ASLGlossConverter.isWhitespace(text.charAt(i));
+            if (!space && !inWord) {
+                words++;
+            }
+            inWord = !space;
+        }
+        return words;
+    }
+
+    public String getGloss() {
+        return String.join(" ", tokens);
+    }
+
+    /**
+     * Rough retained size in bytes, used to cap the translation cache
+     */
+    int estimateBytes() {
+        // Object headers, list backing arrays and references
+        int bytes = 96 + tokens.size() * 24;
+        bytes += englishText.length() * 2 + 40;
+        for (String token : tokens) {
+            bytes += token.length() * 2 + 40;
+        }
+        return bytes;
+    }
+}
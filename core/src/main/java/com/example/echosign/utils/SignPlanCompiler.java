@@ -0,0 +1,145 @@
+package com.example.echosign.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Background translation stage between speech recognition and the UI.
+ * Partial results, the final result and resets are queued to one worker
+ * thread, which owns the incremental gloss session; the final result is
+ * compiled there into a SignPlan (tokens, resolved signs, clip ids,
+ * fingerspelling and durations), so the UI thread only renders.
+ *
+ * Callbacks run on the worker thread; post to the UI from them. Work queued
+ * before a reset() is dropped without a callback.
+ */
+public class SignPlanCompiler {
+
+    /**
+     * Gloss tokens final so far for the current utterance
+     */
+    public interface GlossListener {
+        void onGlossUpdated(List<String> glossTokens);
+    }
+
+    /**
+     * Finished plan for the final recognition result
+     */
+    public interface PlanListener {
+        void onPlanReady(SignPlan plan);
+    }
+
+    private final SignMapper signMapper;
+    private final LatencyTracker latencyTracker;
+    private final ExecutorService worker;
+    private volatile int generation = 0;
+
+    // Owned by the worker thread
+    private final ASLGlossConverter.Session glossSession;
+    private final List<String> glossTokens = new ArrayList<>();
+
+    /**
+     * @param glossConverter used only by the worker; the session scans into
+     *                       its buffers, so it must not be shared
+     */
+    SignPlanCompiler(SignMapper signMapper, ASLGlossConverter glossConverter, LatencyTracker latencyTracker) {
+        this.signMapper = signMapper;
+        this.latencyTracker = latencyTracker;
+        this.glossSession = glossConverter.newSession();
+        this.worker = Executors.newSingleThreadExecutor(new ThreadFactory() {
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, "SignPlanCompiler");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Feed a partial recognition result; the listener hears about it only
+     * when new gloss tokens became final
+     */
+    public void update(final String partialText, final GlossListener listener) {
+        final int submitted = generation;
+        worker.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (submitted != generation) {
+                    return;
+                }
+                List<String> stable = glossSession.update(partialText);
+                if (!stable.isEmpty()) {
+                    glossTokens.addAll(stable);
+                    listener.onGlossUpdated(snapshot());
+                }
+            }
+        });
+    }
+
+    /**
+     * Compile the final recognition result into a plan. Repeated utterances
+     * reuse their cached plan; otherwise only the words not already made
+     * final by partial results are converted.
+     */
+    public void compile(final String englishText, final PlanListener listener) {
+        final int submitted = generation;
+        worker.execute(new Runnable() {
+            @Override
+            public void run() {
+                if (submitted != generation) {
+                    return;
+                }
+                long planStart = System.nanoTime();
+                SignPlan plan = signMapper.getCachedPlan(englishText);
+                if (plan == null) {
+                    long glossStart = System.nanoTime();
+                    List<String> remaining = glossSession.finish(englishText);
+                    if (glossSession.isRevised()) {
+                        glossTokens.clear();
+                    }
+                    glossTokens.addAll(remaining);
+                    latencyTracker.recordSince(LatencyTracker.Stage.GLOSS, glossStart);
+
+                    planStart = System.nanoTime();
+                    plan = signMapper.buildPlan(englishText, glossTokens);
+                }
+                latencyTracker.recordSince(LatencyTracker.Stage.PLAN, planStart);
+
+                // Next utterance starts from scratch
+                glossSession.reset();
+                glossTokens.clear();
+                if (submitted == generation) {
+                    listener.onPlanReady(plan);
+                }
+            }
+        });
+    }
+
+    /**
+     * Forget the current utterance, including work still queued for it
+     */
+    public void reset() {
+        generation++;
+        worker.execute(new Runnable() {
+            @Override
+            public void run() {
+                glossSession.reset();
+                glossTokens.clear();
+            }
+        });
+    }
+
+    public void shutdown() {
+        generation++;
+        worker.shutdownNow();
+    }
+
+    private List<String> snapshot() {
+        return Collections.unmodifiableList(new ArrayList<>(glossTokens));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.echosign.utils;
+
+/**
+ * How one gloss token is shown: the dictionary sign it resolved to (if any),
+ * how it was matched, and the animation resource to play. Immutable; SignMapper
+ * computes it once per distinct token and caches it.
+ */
+public final class SignResolution {
+
+    public enum MatchKind {
+        /** The token is a dictionary word */
+        EXACT,
+        /** Plural of a dictionary word (WATERS -> WATER) */
+        PLURAL,
+        /** Other inflected or derived form (HELPING -> HELP) */
+        VARIATION,
+        /** Listed alias of a dictionary word (THANK -> THANK YOU) */
+        ALIAS,
+        /** No sign; the token is fingerspelled */
+        FINGERSPELL
+    }
+
+    private final String key;
+    private final ASLDictionary.ASLSign sign;
+    private final MatchKind kind;
+    private final String via;
+    private final int resourceId;
+    private final SignClip clip;
+
+    SignResolution(String key, ASLDictionary.ASLSign sign, MatchKind kind, String via, int resourceId,
+                   SignClip clip) {
+        this.key = key;
+        this.sign = sign;
+        this.kind = kind;
+        this.via = via;
+        this.resourceId = resourceId;
+        this.clip = clip;
+    }
+
+    /**
+     * Normalized token: uppercase letters only, as it is fingerspelled
+     */
+    public String getKey() { return key; }
+
+    /**
+     * Resolved sign, or null when the token is fingerspelled
+     */
+    public ASLDictionary.ASLSign getSign() { return sign; }
+    public MatchKind getKind() { return kind; }
+    public boolean hasSign() { return sign != null; }
+
+    /**
+     * Animation resource name (res/raw), or null when fingerspelled
+     */
+    public String getResourceName() {
+        return sign != null ? sign.getGifResource() : null;
+    }
+
+    /**
+     * Animation resource id, or 0 when there is no clip to play
+     */
+    public int getResourceId() { return resourceId; }
+
+    /**
+     * Build-time metadata of the clip (length, size, thumbnail), or null
+     * when there is no clip to play or it was not measured
+     */
+    public SignClip getClip() { return clip; }
+
+    /**
+     * Human-readable description, noting how the sign was reached
+     */
+    public String getInfo() {
+        switch (kind) {
+            case EXACT:
+            case ALIAS:
+                return sign.getDescription();
+            case PLURAL:
+                return sign.getDescription() + " (plural)";
+            case VARIATION:
+                return sign.getDescription() + " (related to: " + via + ")";
+            default:
+                return "Will be fingerspelled: " + key;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return key + " -> " + (sign != null ? sign.getWord() : "") + " (" + kind + ")";
+    }
+}
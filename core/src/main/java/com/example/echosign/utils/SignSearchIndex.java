@@ -0,0 +1,203 @@
+package com.example.echosign.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory inverted index over sign word, category, usage and description.
+ * Terms are kept sorted so every query token is matched as a prefix with a
+ * binary search (search-as-you-type); all query tokens must match, and
+ * results are ranked by field-weighted score. Scoring reuses fixed scratch
+ * arrays, so a query allocates only its result.
+ */
+final class SignSearchIndex {
+
+    static final int WEIGHT_WORD = 8;
+    static final int WEIGHT_CATEGORY = 4;
+    static final int WEIGHT_USAGE = 2;
+    static final int WEIGHT_DESCRIPTION = 1;
+
+    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
+            "THE", "AND", "OF", "TO", "IN", "ON", "WITH", "FOR", "IS", "AS", "AN", "THEN"
+    ));
+
+    private final String[] terms;     // sorted
+    private final int[][] postings;   // per term: record indexes, ascending
+    private final int[][] weights;    // per term: field weight per posting
+
+    // Scratch, guarded by this
+    private final int[] scores;
+    private final int[] matched;
+    private final int[] touched;
+
+    SignSearchIndex(BinaryDictionary index) {
+        Map<String, Postings> byTerm = new HashMap<>();
+        List<String> tokens = new ArrayList<>();
+
+        for (int record = 0; record < index.size(); record++) {
+            addField(byTerm, tokens, record, index.getField(record, BinaryDictionary.FIELD_WORD), WEIGHT_WORD);
+            addField(byTerm, tokens, record, index.getField(record, BinaryDictionary.FIELD_CATEGORY), WEIGHT_CATEGORY);
+            addField(byTerm, tokens, record, index.getField(record, BinaryDictionary.FIELD_USAGE), WEIGHT_USAGE);
+            addField(byTerm, tokens, record, index.getField(record, BinaryDictionary.FIELD_DESCRIPTION), WEIGHT_DESCRIPTION);
+        }
+
+        this.terms = byTerm.keySet().toArray(new String[0]);
+        Arrays.sort(terms);
+        this.postings = new int[terms.length][];
+        this.weights = new int[terms.length][];
+        for (int t = 0; t < terms.length; t++) {
+            Postings p = byTerm.get(terms[t]);
+            postings[t] = Arrays.copyOf(p.records, p.count);
+            weights[t] = Arrays.copyOf(p.weights, p.count);
+        }
+
+        this.scores = new int[index.size()];
+        this.matched = new int[index.size()];
+        this.touched = new int[index.size()];
+    }
+
+    int termCount() {
+        return terms.length;
+    }
+
+    /**
+     * Record indexes matching every token of the query as a word prefix,
+     * best first (score, then gloss key order)
+     */
+    synchronized int[] search(String query, int limit) {
+        List<String> queryTokens = new ArrayList<>();
+        tokenize(query, queryTokens);
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return new int[0];
+        }
+
+        int touchedCount = 0;
+        for (int q = 0; q < queryTokens.size(); q++) {
+            String token = queryTokens.get(q);
+            for (int t = lowerBound(token); t < terms.length && terms[t].startsWith(token); t++) {
+                // Whole-word matches outrank prefix matches
+                int boost = terms[t].length() == token.length() ? 2 : 1;
+                int[] records = postings[t];
+                int[] termWeights = weights[t];
+                for (int i = 0; i < records.length; i++) {
+                    int record = records[i];
+                    if (matched[record] == q) {
+                        if (q == 0) {
+                            touched[touchedCount++] = record;
+                        }
+                        matched[record] = q + 1;
+                        scores[record] += termWeights[i] * boost;
+                    } else if (matched[record] == q + 1) {
+                        scores[record] += termWeights[i] * boost;
+                    }
+                }
+            }
+        }
+
+        // Top-k by insertion; k is a page of results
+        int[] best = new int[Math.min(limit, touchedCount)];
+        int bestCount = 0;
+        for (int i = 0; i < touchedCount; i++) {
+            int record = touched[i];
+            if (matched[record] == queryTokens.size()) {
+                int position = bestCount < best.length ? bestCount++ : best.length;
+                while (position > 0 && ranksBefore(record, best[position - 1])) {
+                    if (position < best.length) {
+                        best[position] = best[position - 1];
+                    }
+                    position--;
+                }
+                if (position < best.length) {
+                    best[position] = record;
+                }
+            }
+        }
+
+        for (int i = 0; i < touchedCount; i++) {
+            scores[touched[i]] = 0;
+            matched[touched[i]] = 0;
+        }
+        return bestCount == best.length ? best : Arrays.copyOf(best, bestCount);
+    }
+
+    private boolean ranksBefore(int a, int b) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && a < b);
+    }
+
+    private int lowerBound(String token) {
+        int low = 0;
+        int high = terms.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (terms[mid].compareTo(token) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void addField(Map<String, Postings> byTerm, List<String> tokens,
+                                 int record, String text, int weight) {
+        tokens.clear();
+        tokenize(text, tokens);
+        for (String token : tokens) {
+            Postings p = byTerm.get(token);
+            if (p == null) {
+                p = new Postings();
+                byTerm.put(token, p);
+            }
+            p.add(record, weight);
+        }
+    }
+
+    /**
+     * Split into uppercase letter/digit runs, dropping common stop words
+     */
+    static void tokenize(String text, List<String> out) {
+        if (text == null) {
+            return;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                String token = text.substring(start, i).toUpperCase(Locale.ROOT);
+                if (!STOP_WORDS.contains(token)) {
+                    out.add(token);
+                }
+                start = -1;
+            }
+        }
+    }
+
+    private static final class Postings {
+        int[] records = new int[4];
+        int[] weights = new int[4];
+        int count;
+
+        // Records arrive in ascending order; repeat hits on a record add up
+        void add(int record, int weight) {
+            if (count > 0 && records[count - 1] == record) {
+                weights[count - 1] += weight;
+                return;
+            }
+            if (count == records.length) {
+                records = Arrays.copyOf(records, count * 2);
+                weights = Arrays.copyOf(weights, count * 2);
+            }
+            records[count] = record;
+            weights[count] = weight;
+            count++;
+        }
+    }
+}
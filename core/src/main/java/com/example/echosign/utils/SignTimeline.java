@@ -0,0 +1,77 @@
+package com.example.echosign.utils;
+
+/**
+ * When each token of a SignPlan is on screen at a given playback speed, as
+ * offsets from the start of the utterance. Immutable; the playback scheduler
+ * compares frame times against it instead of chaining per-token delays, so
+ * lateness on one token does not push back every token after it.
+ */
+public final class SignTimeline {
+
+    public static final float MIN_SPEED = 0.5f;
+    public static final float MAX_SPEED = 2f;
+
+    private final float speed;
+    // ends[i] is when token i hands over to token i + 1
+    private final long[] ends;
+
+    public SignTimeline(SignPlan plan, float speed) {
+        if (!(speed >= MIN_SPEED && speed <= MAX_SPEED)) {
+            throw new IllegalArgumentException("speed must be between " + MIN_SPEED + " and " + MAX_SPEED);
+        }
+        this.speed = speed;
+        this.ends = new long[plan.size()];
+        long end = 0;
+        for (int i = 0; i < ends.length; i++) {
+            end += Math.max(1, Math.round(plan.getDurationMillis(i) / speed));
+            ends[i] = end;
+        }
+    }
+
+    public float getSpeed() { return speed; }
+    public int size() { return ends.length; }
+
+    public long getStartMillis(int index) {
+        return index == 0 ? 0 : ends[index - 1];
+    }
+
+    public long getEndMillis(int index) {
+        return ends[index];
+    }
+
+    /**
+     * On-screen time of a token at this speed
+     */
+    public long getDurationMillis(int index) {
+        return ends[index] - getStartMillis(index);
+    }
+
+    public long getTotalMillis() {
+        return ends.length == 0 ? 0 : ends[ends.length - 1];
+    }
+
+    /**
+     * Token on screen at elapsed milliseconds, or size() once playback is over
+     */
+    public int indexAt(long elapsedMillis) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= elapsedMillis) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Signs per minute this timeline plays at
+     */
+    public double getSignsPerMinute() {
+        long total = getTotalMillis();
+        return total == 0 ? 0 : ends.length * 60000.0 / total;
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.echosign.utils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of finished SignPlans keyed on normalized English text.
+ * Keys keep only what the gloss converter looks at (letters, word, clause and
+ * sentence breaks) so "Thank you!" and "thank  you" share an entry. Eviction
+ * is driven by both an entry limit and an estimated memory cap.
+ */
+public class TranslationCache {
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<String, SignPlan> plans = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public TranslationCache(int maxEntries, long maxBytes) {
+        if (maxEntries < 1 || maxBytes < 1) {
+            throw new IllegalArgumentException("maxEntries and maxBytes must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Cache key for English text: uppercase letters, single spaces between
+     * words, and a period where a sentence ends or a comma where a clause
+     * ends (word order rules are applied per sentence, and filler phrases
+     * are only dropped where they close a clause)
+     */
+    public static String normalize(CharSequence englishText) {
+        StringBuilder key = new StringBuilder(englishText.length());
+        boolean pendingSpace = false;
+        char pendingBreak = 0;
+
+        for (int i = 0; i < englishText.length(); i++) {
+            char c = englishText.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                if (key.length() > 0) {
+                    if (pendingBreak != 0) {
+                        key.append(pendingBreak);
+                    }
+                    if (pendingSpace) {
+                        key.append(' ');
+                    }
+                }
+                pendingSpace = false;
+                pendingBreak = 0;
+                key.append(FoldedKeyTable.fold(c));
+            } else if (ASLGlossConverter.isWhitespace(c)) {
+                pendingSpace = true;
+            } else if (ASLGlossConverter.isSentenceEnd(c)) {
+                pendingBreak = '.';
+            } else if (ASLGlossConverter.isClauseEnd(c) && pendingBreak == 0) {
+                pendingBreak = ',';
+            }
+        }
+
+        return key.toString();
+    }
+
+    public synchronized SignPlan get(String key) {
+        SignPlan plan = plans.get(key);
+        if (plan != null) {
+            hits++;
+        } else {
+            misses++;
+        }
+        return plan;
+    }
+
+    public synchronized void put(String key, SignPlan plan) {
+        long bytes = entryBytes(key, plan);
+        if (bytes > maxBytes) {
+            return;
+        }
+
+        SignPlan previous = plans.put(key, plan);
+        if (previous != null) {
+            currentBytes -= entryBytes(key, previous);
+        }
+        currentBytes += bytes;
+
+        Iterator<Map.Entry<String, SignPlan>> eldest = plans.entrySet().iterator();
+        while ((plans.size() > maxEntries || currentBytes > maxBytes) && eldest.hasNext()) {
+            Map.Entry<String, SignPlan> entry = eldest.next();
+            currentBytes -= entryBytes(entry.getKey(), entry.getValue());
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static long entryBytes(String key, SignPlan plan) {
+        return plan.estimateBytes() + key.length() * 2 + 40;
+    }
+
+    public synchronized void clear() {
+        plans.clear();
+        currentBytes = 0;
+    }
+
+    public synchronized long getHits() { return hits; }
+    public synchronized long getMisses() { return misses; }
+
+    public synchronized String getStats() {
+        long lookups = hits + misses;
+        return String.format("Translation cache: %d plans, ~%d KB of %d KB, %d hits / %d misses (%.0f%% hit rate), %d evictions",
+                plans.size(), currentBytes / 1024, maxBytes / 1024, hits, misses,
+                lookups == 0 ? 0.0 : hits * 100.0 / lookups, evictions);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ASLDictionaryTest {
+
+    private final ASLDictionary dictionary = new ASLDictionary();
+
+    @Test
+    public void looksUpIgnoringCaseAndSurroundingWhitespace() {
+        ASLDictionary.ASLSign water = dictionary.getSign("WATER");
+        assertNotNull(water);
+        assertSame(water, dictionary.getSign("water"));
+        assertSame(water, dictionary.getSign("  Water \t"));
+        assertEquals("Needs", water.getCategory());
+        assertEquals("asl_water", water.getGifResource());
+    }
+
+    @Test
+    public void looksUpRangesInsideLargerText() {
+        String text = "I need water please";
+        assertSame(dictionary.getSign("NEED"), dictionary.getSign(text, 2, 6));
+        assertTrue(dictionary.hasSign(text, 6, 12));
+        assertFalse(dictionary.hasSign(text, 2, 5));
+    }
+
+    @Test
+    public void multiWordSignsUseTheirJoinedGlossKey() {
+        assertEquals("THANKYOU", ASLDictionary.toGlossKey("Thank You"));
+        assertNotNull(dictionary.getSign("THANKYOU"));
+        assertTrue(dictionary.getPhrases().contains("THANK YOU"));
+    }
+
+    @Test
+    public void unknownWordsAndNullMiss() {
+        assertNull(dictionary.getSign("ZEBRA"));
+        assertNull(dictionary.getSign(null));
+        assertFalse(dictionary.hasSign(null));
+        assertFalse(dictionary.hasSign(""));
+        assertEquals("No ASL sign found for: ZEBRA", dictionary.getSignDescription("ZEBRA"));
+    }
+
+    @Test
+    public void categoriesKeepAuthoringOrder() {
+        String[] categories = dictionary.getCategories();
+        assertEquals("Greetings", categories[0]);
+        assertEquals("Politeness", categories[1]);
+        assertEquals(12, categories.length);
+
+        categories[0] = "changed";
+        assertEquals("Greetings", dictionary.getCategories()[0]);
+    }
+
+    @Test
+    public void pagesThroughACategorySortedByWord() {
+        assertEquals(6, dictionary.getCategorySize("needs"));
+        assertEquals(0, dictionary.getCategorySize("Unknown"));
+
+        List<String> words = new ArrayList<>();
+        for (int offset = 0; offset < 6; offset += 4) {
+            for (ASLDictionary.ASLSign sign : dictionary.getSignsInCategory("Needs", offset, 4)) {
+                words.add(sign.getWord());
+            }
+        }
+        assertEquals(Arrays.asList("BATHROOM", "FOOD", "HELP", "NEED", "WANT", "WATER"), words);
+        assertEquals(Arrays.asList("BATHROOM", "FOOD", "HELP", "NEED", "WANT", "WATER"),
+                new ArrayList<>(dictionary.getSignsByCategory("Needs").keySet()));
+    }
+
+    @Test
+    public void outOfRangePagesAreEmpty() {
+        assertTrue(dictionary.getSignsInCategory("Needs", 6, 4).isEmpty());
+        assertTrue(dictionary.getSignsInCategory("Needs", -1, 4).isEmpty());
+        assertTrue(dictionary.getSignsInCategory("Needs", 0, 0).isEmpty());
+        assertTrue(dictionary.getSignsInCategory(null, 0, 4).isEmpty());
+        assertEquals(1, dictionary.getSignsInCategory("Needs", 5, 4).size());
+    }
+
+    @Test
+    public void onlyCoreSignsAreResidentAtStartup() {
+        ASLDictionary fresh = new ASLDictionary();
+        assertEquals(18, fresh.getResidentSignCount());
+        assertFalse(fresh.isCategoryLoaded("Family"));
+    }
+
+    @Test
+    public void firstLookupLoadsTheRestOfItsCategory() throws InterruptedException {
+        ASLDictionary fresh = new ASLDictionary();
+        assertNotNull(fresh.getSign("MOTHER"));
+        awaitLoaded(fresh, "Family");
+        assertEquals(20, fresh.getResidentSignCount());
+        assertFalse(fresh.isCategoryLoaded("Places"));
+    }
+
+    @Test
+    public void preloadDecodesACategoryAhead() throws InterruptedException {
+        ASLDictionary fresh = new ASLDictionary();
+        fresh.preloadCategory("places");
+        fresh.preloadCategory("Unknown");
+        awaitLoaded(fresh, "Places");
+        assertEquals(18 + 5, fresh.getResidentSignCount());
+    }
+
+    private static void awaitLoaded(ASLDictionary dictionary, String category) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!dictionary.isCategoryLoaded(category)) {
+            assertTrue(category + " never loaded", System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ASLGlossConverterTest {
+
+    private final ASLGlossConverter converter = new ASLGlossConverter();
+
+    @Test
+    public void dropsGrammarWordsAndUppercases() {
+        assertEquals("I NEED WATER FOOD", converter.convertToASLGloss("I need water and food"));
+        assertEquals("MY NAME ALEX", converter.convertToASLGloss("My name is Alex"));
+    }
+
+    @Test
+    public void foldsCaseAndIgnoresPunctuationAndDigits() {
+        assertEquals(converter.convertToASLGloss("i need water"),
+                converter.convertToASLGloss("I NEED, WATER!!"));
+        assertEquals("I NEED WATER", converter.convertToASLGloss("I need 2 water"));
+        // Characters inside a word are dropped, not treated as breaks
+        assertEquals("ALEXS WATER", converter.convertToASLGloss("Alex's water"));
+    }
+
+    @Test
+    public void splitsOnEveryWhitespaceClass() {
+        assertEquals("I NEED WATER", converter.convertToASLGloss("I\tneed\r\nwater\f"));
+    }
+
+    @Test
+    public void dropsShortUnknownWords() {
+        assertEquals("WATER", converter.convertToASLGloss("ox water"));
+        assertEquals("", converter.convertToASLGloss("   "));
+        assertEquals("", converter.convertToASLGloss(null));
+    }
+
+    @Test
+    public void growsBuffersForLongInput() {
+        StringBuilder text = new StringBuilder();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            text.append("Pneumonoultramicroscopicsilicovolcanoconiosis water ");
+            expected.add("PNEUMONOULTRAMICROSCOPICSILICOVOLCANOCONIOSIS");
+            expected.add("WATER");
+        }
+        assertEquals(expected, converter.convertToGlossTokens(text));
+    }
+
+    @Test
+    public void reusesCanonicalStringsForKnownWords() {
+        List<String> first = converter.convertToGlossTokens("I want water");
+        List<String> second = new ASLGlossConverter().convertToGlossTokens("i WANT water");
+        assertSame(first.get(1), second.get(1));
+    }
+
+    @Test
+    public void appendsOnlyTheRequestedRange() {
+        List<String> out = new ArrayList<>(Collections.singletonList("HELLO"));
+        int added = converter.appendGlossTokens("xx I need water yy", 3, 15, out);
+        assertEquals(3, added);
+        assertEquals(Arrays.asList("HELLO", "I", "NEED", "WATER"), out);
+    }
+
+    @Test
+    public void reusedConverterGivesTheSameResult() {
+        String once = converter.convertToASLGloss("Please help me find the doctor");
+        converter.convertToASLGloss("Something entirely different and much longer than before");
+        assertEquals(once, converter.convertToASLGloss("Please help me find the doctor"));
+    }
+
+    @Test
+    public void collapsesLongestPhraseMatch() {
+        ASLGlossConverter phrases = new ASLGlossConverter(Arrays.asList("thank you", "thank you very much"));
+        assertEquals("THANKYOU YOUR HELP", phrases.convertToASLGloss("Thank you for your help"));
+        assertEquals("THANKYOUVERYMUCH", phrases.convertToASLGloss("Thank you very much"));
+        // Phrases do not span sentences
+        assertEquals("THANK YOU", phrases.convertToASLGloss("Thank. You"));
+    }
+
+    @Test
+    public void dropsFillerPhrasesThatCloseAClause() {
+        assertEquals("I TIRED", converter.convertToASLGloss("I am tired you know"));
+        assertEquals("I TIRED", converter.convertToASLGloss("You know, I am tired"));
+        assertEquals("I TIRED REALLY", converter.convertToASLGloss("I am tired, you know, really"));
+        assertEquals("I LOVE YOU", converter.convertToASLGloss("I love you, I mean."));
+    }
+
+    @Test
+    public void keepsFillerWordsInsideAClause() {
+        assertEquals("YOU KNOW BATHROOM WHERE", converter.convertToASLGloss("Do you know where the bathroom is"));
+        assertEquals("YOU KNOW I TIRED", converter.convertToASLGloss("you know I am tired"));
+        assertEquals("I MEAN IT", converter.convertToASLGloss("I mean it"));
+    }
+
+    @Test
+    public void keepsFillerWordsThatFollowAQuestionAuxiliary() {
+        assertEquals("YOU KNOW", converter.convertToASLGloss("Do you know?"));
+        assertEquals("I LOVE YOU YOU KNOW HIM", converter.convertToASLGloss("I love you. Did you know him?"));
+    }
+
+    @Test
+    public void dictionaryPhrasesCollapseInExampleConversions() {
+        ASLGlossConverter dictionary = new ASLGlossConverter(new ASLDictionary().getPhrases());
+        assertTrue(dictionary.getExampleConversions().contains(
+                "Expected: THANKYOU YOUR HELP\nActual: THANKYOU YOUR HELP\n"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.echosign.utils;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchTranslatorTest {
+
+    private static final List<String> PHRASES = Collections.singletonList("thank you");
+    private static final String[] SENTENCES = {
+            "Thank you for your help",
+            "Where is the bathroom",
+            "I go home tomorrow",
+            "I need water and food",
+            "Please help me find the doctor"
+    };
+
+    private final BatchTranslator translator = new BatchTranslator(PHRASES, 4, 3);
+
+    @After
+    public void shutdown() {
+        translator.shutdown();
+    }
+
+    private static List<String> transcript(int size) {
+        List<String> sentences = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            sentences.add(SENTENCES[i % SENTENCES.length] + (i % 7 == 0 ? " number" + i : ""));
+        }
+        return sentences;
+    }
+
+    @Test
+    public void matchesSequentialConversionInInputOrder() {
+        List<String> sentences = transcript(1000);
+        ASLGlossConverter converter = new ASLGlossConverter(PHRASES);
+        List<String> expected = new ArrayList<>();
+        for (String sentence : sentences) {
+            expected.add(converter.convertToASLGloss(sentence));
+        }
+
+        BatchTranslator.BatchResult result = translator.translate(sentences);
+        assertEquals(expected, result.getGlosses());
+        assertEquals(4, result.getParallelism());
+        assertTrue(result.getElapsedNanos() > 0);
+    }
+
+    @Test
+    public void streamsResultsInOrder() {
+        final List<String> sentences = transcript(50);
+        final List<String> received = new ArrayList<>();
+        translator.translate(sentences.iterator(), new BatchTranslator.Listener() {
+            @Override
+            public void onTranslated(int index, String englishText, String aslGloss) {
+                assertEquals(received.size(), index);
+                assertEquals(sentences.get(index), englishText);
+                received.add(aslGloss);
+            }
+        });
+        assertEquals(translator.translate(sentences).getGlosses(), received);
+    }
+
+    @Test
+    public void handlesEmptyAndNullInput() {
+        assertTrue(translator.translate(Collections.<String>emptyList()).getGlosses().isEmpty());
+        assertEquals(Arrays.asList("", "WATER"), translator.translate(Arrays.asList(null, "water")).getGlosses());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsZeroParallelism() {
+        new BatchTranslator(PHRASES, 0, 16);
+    }
+}
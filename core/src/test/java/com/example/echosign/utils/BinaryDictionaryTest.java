@@ -0,0 +1,121 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BinaryDictionaryTest {
+
+    private static final String SIGNS = "word,category,description,usage,core\n"
+            + "water,Needs,\"Flat W, tap chin\",I need water,1\n"
+            + "Thank You,Politeness,Chin then forward,Say thanks,\n"
+            + "help,Needs,Fist on palm,Ask for help,\n";
+
+    private static ByteBuffer compile(String signs, String aliases) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DictionaryCompiler.compile(new StringReader(signs),
+                aliases != null ? new StringReader(aliases) : null, out);
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    private static ByteBuffer bundledResource() throws IOException {
+        try (InputStream in = BinaryDictionaryTest.class.getResourceAsStream(ASLDictionary.RESOURCE_PATH)) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                bytes.write(chunk, 0, read);
+            }
+            return ByteBuffer.wrap(bytes.toByteArray());
+        }
+    }
+
+    @Test
+    public void roundTripsRecordsSortedByKey() throws IOException {
+        BinaryDictionary dictionary = new BinaryDictionary(compile(SIGNS, null));
+        assertEquals(3, dictionary.size());
+
+        int water = dictionary.indexOf("Water", 0, 5);
+        assertEquals("water", dictionary.getField(water, BinaryDictionary.FIELD_WORD));
+        assertEquals("Flat W, tap chin", dictionary.getField(water, BinaryDictionary.FIELD_DESCRIPTION));
+        assertEquals("I need water", dictionary.getField(water, BinaryDictionary.FIELD_USAGE));
+
+        assertEquals(0, dictionary.indexOf("HELP", 0, 4));
+        assertEquals(1, dictionary.indexOf("thankyou", 0, 8));
+        assertEquals(-1, dictionary.indexOf("food", 0, 4));
+        assertEquals(-1, dictionary.indexOf("HELPS", 0, 5));
+    }
+
+    @Test
+    public void indexesPhrasesCoreSignsAndCategories() throws IOException {
+        BinaryDictionary dictionary = new BinaryDictionary(compile(SIGNS, null));
+
+        assertEquals(1, dictionary.phraseCount());
+        assertEquals("Thank You", dictionary.getField(dictionary.phraseAt(0), BinaryDictionary.FIELD_WORD));
+        assertEquals(1, dictionary.coreCount());
+        assertEquals(dictionary.indexOf("WATER", 0, 5), dictionary.coreAt(0));
+
+        // Categories in authoring order, members sorted by key
+        assertEquals(2, dictionary.categoryCount());
+        assertEquals("Needs", dictionary.categoryName(0));
+        assertEquals(2, dictionary.categorySize(0));
+        assertEquals(dictionary.indexOf("HELP", 0, 4), dictionary.categoryMember(0, 0));
+        assertEquals(dictionary.indexOf("WATER", 0, 5), dictionary.categoryMember(0, 1));
+        int water = dictionary.indexOf("WATER", 0, 5);
+        assertEquals(0, dictionary.categoryOf(water));
+        assertEquals(1, dictionary.positionInCategory(water));
+    }
+
+    @Test
+    public void indexesInflectedFormsAndAliases() throws IOException {
+        BinaryDictionary dictionary = new BinaryDictionary(compile(SIGNS, "alias,target\nthanks,thank you\n"));
+
+        int alias = dictionary.formIndexOf("THANKS", 0, 6);
+        assertEquals(BinaryDictionary.KIND_ALIAS, dictionary.formKind(alias));
+        assertEquals(dictionary.indexOf("THANKYOU", 0, 8), dictionary.formRecord(alias));
+
+        int plural = dictionary.formIndexOf("waters", 0, 6);
+        assertEquals(dictionary.indexOf("WATER", 0, 5), dictionary.formRecord(plural));
+        assertEquals(-1, dictionary.formIndexOf("WATERY", 0, 6));
+    }
+
+    @Test
+    public void rejectsForeignOrTruncatedData() throws IOException {
+        expectInvalid(ByteBuffer.wrap(new byte[64]));
+
+        ByteBuffer valid = compile(SIGNS, null);
+        ByteBuffer truncated = ByteBuffer.wrap(valid.array(), 0, valid.capacity() - 1).slice();
+        expectInvalid(truncated);
+
+        ByteBuffer newer = ByteBuffer.wrap(valid.array().clone());
+        newer.putInt(4, BinaryDictionary.VERSION + 1);
+        expectInvalid(newer);
+    }
+
+    @Test
+    public void readsTheBundledDictionary() throws IOException {
+        BinaryDictionary dictionary = new BinaryDictionary(bundledResource());
+        assertTrue(dictionary.size() > 0);
+        for (int i = 0; i < dictionary.size(); i++) {
+            String key = ASLDictionary.toGlossKey(dictionary.getField(i, BinaryDictionary.FIELD_WORD));
+            assertEquals(key, i, dictionary.indexOf(key, 0, key.length()));
+        }
+    }
+
+    private static void expectInvalid(ByteBuffer data) {
+        try {
+            new BinaryDictionary(data);
+            fail("Accepted invalid dictionary data");
+        } catch (IllegalArgumentException expected) {
+            // rejected up front rather than on first lookup
+        }
+    }
+}
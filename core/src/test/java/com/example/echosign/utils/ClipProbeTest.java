@@ -0,0 +1,129 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ClipProbeTest {
+
+    /**
+     * Minimal GIF: two-color global table, one frame per delay (centiseconds)
+     */
+    static byte[] gif(int width, int height, int... delays) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        write(out, 'G', 'I', 'F', '8', '9', 'a');
+        write(out, width, width >> 8, height, height >> 8, 0x80, 0, 0);
+        write(out, 0, 0, 0, 0xff, 0xff, 0xff);
+        for (int delay : delays) {
+            write(out, 0x21, 0xF9, 4, 0, delay, delay >> 8, 0, 0);
+            write(out, 0x2C, 0, 0, 0, 0, width, width >> 8, height, height >> 8, 0);
+            write(out, 2, 2, 0x4C, 0x01, 0);
+        }
+        write(out, 0x3B);
+        return out.toByteArray();
+    }
+
+    /**
+     * Minimal animated WebP: VP8X canvas plus one empty ANMF chunk per duration (ms)
+     */
+    static byte[] webp(int width, int height, int... durations) {
+        ByteArrayOutputStream chunks = new ByteArrayOutputStream();
+        write(chunks, 'V', 'P', '8', 'X', 10, 0, 0, 0, 0x02, 0, 0, 0);
+        writeInt24(chunks, width - 1);
+        writeInt24(chunks, height - 1);
+        for (int duration : durations) {
+            write(chunks, 'A', 'N', 'M', 'F', 16, 0, 0, 0);
+            writeInt24(chunks, 0);
+            writeInt24(chunks, 0);
+            writeInt24(chunks, width - 1);
+            writeInt24(chunks, height - 1);
+            writeInt24(chunks, duration);
+            write(chunks, 0);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int riffSize = 4 + chunks.size();
+        write(out, 'R', 'I', 'F', 'F', riffSize, riffSize >> 8, riffSize >> 16, riffSize >> 24);
+        write(out, 'W', 'E', 'B', 'P');
+        byte[] body = chunks.toByteArray();
+        out.write(body, 0, body.length);
+        return out.toByteArray();
+    }
+
+    static ClipProbe probe(byte[] clip) throws IOException {
+        return ClipProbe.read(new ByteArrayInputStream(clip), clip.length);
+    }
+
+    private static void write(ByteArrayOutputStream out, int... bytes) {
+        for (int b : bytes) {
+            out.write(b & 0xff);
+        }
+    }
+
+    private static void writeInt24(ByteArrayOutputStream out, int value) {
+        write(out, value, value >> 8, value >> 16);
+    }
+
+    @Test
+    public void readsGifFramesAndDelays() throws IOException {
+        // Delays under 2 cs play as 10 cs, as in Glide
+        ClipProbe clip = probe(gif(64, 48, 5, 1, 4));
+        assertEquals(64, clip.width);
+        assertEquals(48, clip.height);
+        assertEquals(3, clip.frameCount);
+        assertEquals(50 + 100 + 40, clip.durationMillis);
+        assertEquals(3 * 1000.0 / 190, clip.framesPerSecond(), 1e-9);
+        assertFalse(clip.isTruncated());
+    }
+
+    @Test
+    public void paddingAfterTheGifTrailerIsNotClipData() throws IOException {
+        byte[] gif = gif(64, 48, 5, 5);
+        byte[] padded = Arrays.copyOf(gif, gif.length + 4096);
+
+        ClipProbe clip = probe(padded);
+        assertEquals(padded.length, clip.bytes);
+        assertEquals(gif.length, clip.getDataBytes());
+        assertEquals(2, clip.frameCount);
+    }
+
+    @Test
+    public void truncatedGifReportsCompletedFrames() throws IOException {
+        byte[] gif = gif(64, 48, 5, 5);
+        ClipProbe clip = probe(Arrays.copyOf(gif, gif.length - 4));
+        assertTrue(clip.isTruncated());
+        assertEquals(1, clip.frameCount);
+        assertEquals(gif.length - 4, clip.getDataBytes());
+    }
+
+    @Test
+    public void readsAnimatedWebpCanvasAndDurations() throws IOException {
+        byte[] webp = webp(420, 236, 40, 60);
+        byte[] padded = Arrays.copyOf(webp, webp.length + 10);
+
+        ClipProbe clip = probe(padded);
+        assertEquals(420, clip.width);
+        assertEquals(236, clip.height);
+        assertEquals(2, clip.frameCount);
+        assertEquals(100, clip.durationMillis);
+        assertEquals(webp.length, clip.getDataBytes());
+        assertFalse(clip.isTruncated());
+    }
+
+    @Test
+    public void rejectsOtherFiles() {
+        try {
+            probe(new byte[] {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, 0});
+            fail("Probed a JPEG as a clip");
+        } catch (IOException expected) {
+            // not a GIF or WebP clip
+        }
+    }
+}
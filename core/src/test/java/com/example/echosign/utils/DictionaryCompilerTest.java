@@ -0,0 +1,79 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class DictionaryCompilerTest {
+
+    private static final Set<String> SIGNS = new HashSet<>(Arrays.asList("THANKYOU", "HAPPY", "SAD"));
+
+    private static Map<String, String> flatten(String aliasCsv) throws IOException {
+        return DictionaryCompiler.flattenAliases(DictionaryCompiler.parseCsv(new StringReader(aliasCsv)), SIGNS);
+    }
+
+    private static void expectRejected(String aliasCsv, String message) throws IOException {
+        try {
+            flatten(aliasCsv);
+            fail("Accepted " + aliasCsv);
+        } catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage(), expected.getMessage().contains(message));
+        }
+    }
+
+    @Test
+    public void flattensAliasChainsInAuthoringOrder() throws IOException {
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("THX", "THANKYOU");
+        expected.put("THANKS", "THANKYOU");
+        expected.put("THANK", "THANKYOU");
+        expected.put("UNHAPPY", "SAD");
+
+        Map<String, String> aliases = flatten("alias,target\nthx,thanks\nthanks,thank\nthank,thank you\n\nunhappy,sad\n");
+        assertEquals(expected, aliases);
+        assertEquals(Arrays.asList("THX", "THANKS", "THANK", "UNHAPPY"), Arrays.asList(aliases.keySet().toArray()));
+    }
+
+    @Test
+    public void rejectsBrokenAliasTables() throws IOException {
+        expectRejected("alias,target\na,b\nb,a\n", "Alias cycle: A -> B -> A");
+        expectRejected("alias,target\nglad,joyful\n", "points to unknown sign JOYFUL");
+        expectRejected("alias,target\nhappy,sad\n", "HAPPY is already a sign");
+        expectRejected("alias,target\nglad,happy\nglad,sad\n", "duplicate alias GLAD");
+        expectRejected("alias,target\nglad\n", "expected 2 columns");
+        expectRejected("glad,happy\n", "Missing alias header row");
+    }
+
+    @Test
+    public void bundledAliasesResolveInOneProbe() {
+        ASLDictionary dictionary = new ASLDictionary();
+        assertEquals("THANK YOU", dictionary.findAlias("thx").getWord());
+        assertEquals("MOTHER", dictionary.findAlias("MOMMY").getWord());
+        assertNull(dictionary.findAlias("WATERS"));
+        assertNull(dictionary.findAlias("ZEBRA"));
+    }
+
+    @Test
+    public void bundledAliasesAreTrueSynonyms() {
+        ASLDictionary dictionary = new ASLDictionary();
+        // "the rest of the day", "I'm fine", "sure enough" keep their meaning
+        assertNull(dictionary.findAlias("REST"));
+        assertNull(dictionary.findAlias("FINE"));
+        assertNull(dictionary.findAlias("SURE"));
+        SignMapper mapper = new SignMapper(dictionary);
+        assertEquals(Arrays.asList("REST", "DAY"), mapper.buildPlan("the rest of the day").getTokens());
+        assertFalse(mapper.resolve("REST").hasSign());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.echosign.utils;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EchoLogTest {
+
+    private static final String TAG = "EchoLogTest";
+
+    private static String format(String pattern, Object a, Object b, Object c) {
+        StringBuilder out = new StringBuilder();
+        EchoLog.format(out, pattern, a, b, c);
+        return out.toString();
+    }
+
+    @After
+    public void restoreDefaults() {
+        EchoLog.setLevel(EchoLog.INFO);
+        EchoLog.setSink(new EchoLog.ConsoleSink());
+    }
+
+    @Test
+    public void substitutesUpToThreeArgumentsInOrder() {
+        assertEquals("a=1 b=2 c=3", format("a={} b={} c={}", 1, 2, 3));
+        assertEquals("1 2 3 {}", format("{} {} {} {}", 1, 2, 3));
+        assertEquals("x=null", format("x={}", null, null, null));
+        assertEquals("no placeholders", format("no placeholders", 1, 2, 3));
+        assertEquals("", format(null, 1, 2, 3));
+    }
+
+    @Test
+    public void levelGatesRecords() {
+        EchoLog.setLevel(EchoLog.WARN);
+        assertFalse(EchoLog.isLoggable(EchoLog.INFO));
+        assertTrue(EchoLog.isLoggable(EchoLog.ERROR));
+
+        EchoLog.setLevel(EchoLog.NONE);
+        assertFalse(EchoLog.isLoggable(EchoLog.ERROR));
+    }
+
+    @Test
+    public void enabledRecordsReachTheSinkFormatted() throws InterruptedException {
+        final BlockingQueue<String> written = new LinkedBlockingQueue<>();
+        final BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+        EchoLog.setSink(new EchoLog.Sink() {
+            @Override
+            public void write(int level, String tag, String message, Throwable error) {
+                if (!TAG.equals(tag)) {
+                    return; // records still draining from other tests
+                }
+                written.add(level + " " + tag + ": " + message);
+                if (error != null) {
+                    errors.add(error);
+                }
+            }
+        });
+        EchoLog.setLevel(EchoLog.INFO);
+
+        EchoLog.d(TAG, "hidden {}", 1);
+        EchoLog.i(TAG, "shown {} of {}", 1, 2);
+        RuntimeException failure = new RuntimeException("boom");
+        EchoLog.e(TAG, "failed {}", "clip", failure);
+
+        assertEquals(EchoLog.INFO + " " + TAG + ": shown 1 of 2", written.poll(5, TimeUnit.SECONDS));
+        assertEquals(EchoLog.ERROR + " " + TAG + ": failed clip", written.poll(5, TimeUnit.SECONDS));
+        assertSame(failure, errors.poll(5, TimeUnit.SECONDS));
+        assertEquals(null, written.poll(100, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FingerspellingTest {
+
+    @Test
+    public void everyAlphabetCharacterHasItsOwnCell() {
+        assertEquals(Fingerspelling.ATLAS_COLUMNS * Fingerspelling.ATLAS_ROWS, Fingerspelling.ALPHABET.length());
+        for (int i = 0; i < Fingerspelling.ALPHABET.length(); i++) {
+            assertEquals(i, Fingerspelling.cellOf(Fingerspelling.ALPHABET.charAt(i)));
+        }
+        assertEquals(Fingerspelling.cellOf('Q'), Fingerspelling.cellOf('q'));
+        assertEquals(-1, Fingerspelling.cellOf('-'));
+        assertEquals(-1, Fingerspelling.cellOf('\u00C9'));
+    }
+
+    @Test
+    public void expandsWordsSkippingCharactersWithoutHandshapes() {
+        assertArrayEquals(new int[] {1, 14, 1}, Fingerspelling.expand("Bob"));
+        assertArrayEquals(new int[] {12, 23, 26 + 2}, Fingerspelling.expand("m-x 2"));
+        assertArrayEquals(new int[0], Fingerspelling.expand("?!"));
+    }
+
+    @Test
+    public void cellsMapToGridPositionsRowByRow() {
+        assertEquals(0, Fingerspelling.rowOf(Fingerspelling.cellOf('A')));
+        assertEquals(0, Fingerspelling.columnOf(Fingerspelling.cellOf('A')));
+        assertEquals(1, Fingerspelling.rowOf(Fingerspelling.cellOf('G')));
+        assertEquals(0, Fingerspelling.columnOf(Fingerspelling.cellOf('G')));
+        assertEquals(5, Fingerspelling.rowOf(Fingerspelling.cellOf('9')));
+        assertEquals(5, Fingerspelling.columnOf(Fingerspelling.cellOf('9')));
+    }
+
+    @Test
+    public void plansFingerspellTokensWithoutAClip() {
+        SignMapper mapper = new SignMapper(new ASLDictionary(), new SignMapper.ResourceResolver() {
+            @Override
+            public int resourceId(String resourceName) {
+                return resourceName.equals("asl_water") ? 42 : 0;
+            }
+        });
+        SignPlan plan = mapper.buildPlan("Zoe needs water");
+        assertTrue(plan.isFingerspelled(0));
+        assertEquals("ZOE", plan.getFingerspelling(0));
+        // NEED has a sign but no clip in this app
+        assertTrue(plan.isFingerspelled(1));
+        assertFalse(plan.isFingerspelled(2));
+        assertEquals("", plan.getFingerspelling(2));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FoldedKeyTableTest {
+
+    private static FoldedKeyTable<Integer> table(String... keys) {
+        Map<String, Integer> entries = new HashMap<>();
+        for (int i = 0; i < keys.length; i++) {
+            entries.put(keys[i], i);
+        }
+        return new FoldedKeyTable<>(entries);
+    }
+
+    @Test
+    public void looksUpIgnoringCase() {
+        FoldedKeyTable<Integer> table = table("water", "Thank You", "HELP");
+        assertEquals(Integer.valueOf(0), table.get("WATER"));
+        assertEquals(Integer.valueOf(1), table.get("thank you"));
+        assertEquals(Integer.valueOf(2), table.get("help"));
+        assertNull(table.get("food"));
+        assertEquals(3, table.size());
+    }
+
+    @Test
+    public void keysAreStoredUppercase() {
+        FoldedKeyTable<Integer> table = table("water");
+        assertEquals("WATER", table.keyAt(table.indexOf("Water", 0, 5)));
+    }
+
+    @Test
+    public void looksUpSlicesWithoutCopying() {
+        FoldedKeyTable<Integer> table = table("need");
+        String text = "I need water";
+        assertTrue(table.indexOf(text, 2, 6) >= 0);
+        assertTrue(table.indexOf(text, 2, 5) < 0);
+        char[] buffer = "xxNEEDxx".toCharArray();
+        assertEquals(table.indexOf(text, 2, 6), table.indexOf(buffer, 2, 6));
+    }
+
+    @Test
+    public void handlesManyKeys() {
+        Map<String, Integer> entries = new HashMap<>();
+        for (int i = 0; i < 5000; i++) {
+            entries.put("word" + Integer.toString(i, 26).replace('0', 'q'), i);
+        }
+        FoldedKeyTable<Integer> table = new FoldedKeyTable<>(entries);
+        for (Map.Entry<String, Integer> entry : entries.entrySet()) {
+            assertEquals(entry.getValue(), table.get(entry.getKey().toUpperCase()));
+        }
+        assertFalse(table.containsKey("missing"));
+    }
+
+    @Test
+    public void foldsAsciiLettersOnly() {
+        assertEquals('A', FoldedKeyTable.fold('a'));
+        assertEquals('Z', FoldedKeyTable.fold('Z'));
+        assertEquals("THANK YOU", FoldedKeyTable.fold("thank you"));
+    }
+}
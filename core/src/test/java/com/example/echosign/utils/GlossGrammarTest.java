@@ -0,0 +1,88 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GlossGrammarTest {
+
+    private final GlossGrammar grammar = ASLGlossConverter.DEFAULT_GRAMMAR;
+
+    private List<String> sentence(boolean streaming, String... tokens) {
+        GlossGrammar.State state = grammar.newState();
+        List<String> out = new ArrayList<>();
+        for (String token : tokens) {
+            state.add(token, out, streaming);
+        }
+        state.closeSentence(out);
+        return out;
+    }
+
+    @Test
+    public void frontsTimeAndMovesNegationAndQuestionsToTheEnd() {
+        assertEquals(Arrays.asList("TOMORROW", "I", "GO", "HOME"), sentence(false, "I", "GO", "HOME", "TOMORROW"));
+        assertEquals(Arrays.asList("BATHROOM", "WHERE"), sentence(false, "WHERE", "BATHROOM"));
+    }
+
+    @Test
+    public void rewritesContractedNegation() {
+        assertEquals(Arrays.asList("I", "UNDERSTAND", "NOT"), sentence(false, "I", "DONT", "UNDERSTAND"));
+    }
+
+    @Test
+    public void endTokensAreOrderedByRuleThenArrival() {
+        assertEquals(Arrays.asList("YOU", "NOT", "NEVER", "WHY", "WHERE"),
+                sentence(false, "WHY", "WHERE", "NEVER", "YOU", "DONT"));
+    }
+
+    @Test
+    public void firstRuleListingAWordWins() {
+        GlossGrammar custom = new GlossGrammar(
+                GlossGrammar.Rule.moveToFront("Time", "NOW"),
+                GlossGrammar.Rule.moveToEnd("Other", "NOW", "THEN"));
+        GlossGrammar.State state = custom.newState();
+        List<String> out = new ArrayList<>();
+        for (String token : Arrays.asList("THEN", "I", "NOW")) {
+            state.add(token, out, false);
+        }
+        state.closeSentence(out);
+        assertEquals(Arrays.asList("NOW", "I", "THEN"), out);
+        assertEquals(2, custom.getRuleCount());
+    }
+
+    @Test
+    public void streamingHoldsOnlyEndTokens() {
+        GlossGrammar.State state = grammar.newState();
+        List<String> out = new ArrayList<>();
+        state.add("WHERE", out, true);
+        state.add("BATHROOM", out, true);
+        assertEquals(Arrays.asList("BATHROOM"), out);
+        assertFalse(state.isEmpty());
+        state.closeSentence(out);
+        assertEquals(Arrays.asList("BATHROOM", "WHERE"), out);
+        assertTrue(state.isEmpty());
+    }
+
+    @Test
+    public void reportsTimeWordsThatArriveAfterStreamedTokens() {
+        GlossGrammar.State state = grammar.newState();
+        List<String> out = new ArrayList<>();
+        state.add("TODAY", out, true);
+        state.add("I", out, true);
+        assertFalse(state.hasLateFront());
+        state.add("TOMORROW", out, true);
+        assertTrue(state.hasLateFront());
+
+        // Survives the sentence closing, cleared by reset
+        state.closeSentence(out);
+        assertTrue(state.hasLateFront());
+        state.reset();
+        assertFalse(state.hasLateFront());
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GlossSessionTest {
+
+    private final ASLGlossConverter converter = new ASLGlossConverter();
+
+    /**
+     * Feed text one character at a time, as growing partial results, then
+     * finish; returns the tokens a consumer of the session ends up with
+     */
+    private static List<String> stream(ASLGlossConverter.Session session, String text) {
+        List<String> out = new ArrayList<>();
+        for (int i = 1; i <= text.length(); i++) {
+            out.addAll(session.update(text.substring(0, i)));
+        }
+        List<String> finished = session.finish(text);
+        if (session.isRevised()) {
+            return finished;
+        }
+        out.addAll(finished);
+        return out;
+    }
+
+    @Test
+    public void streamedTokensMatchOneShotConversion() {
+        String text = "Please help me find the doctor";
+        ASLGlossConverter.Session session = converter.newSession();
+        assertEquals(converter.convertToGlossTokens(text), stream(session, text));
+        assertFalse(session.isRevised());
+        assertEquals(converter.convertToGlossTokens(text), session.getEmittedTokens());
+    }
+
+    @Test
+    public void emitsWordsOnceTheyAreClosedAndUnchanged() {
+        ASLGlossConverter.Session session = converter.newSession();
+        assertEquals(Collections.emptyList(), session.update("We ne"));
+        assertEquals(Collections.singletonList("WE"), session.update("We need"));
+        // NEED is closed by whitespace, but only final once a later result keeps it
+        assertEquals(Collections.emptyList(), session.update("We need wa"));
+        assertEquals(Collections.singletonList("NEED"), session.update("We need wat"));
+        assertEquals(Collections.emptyList(), session.update("We need wat"));
+        assertEquals(Collections.singletonList("WATER"), session.finish("We need water"));
+    }
+
+    @Test
+    public void holdsWordsMovedToTheEndUntilTheSentenceCloses() {
+        ASLGlossConverter.Session session = converter.newSession();
+        List<String> partial = new ArrayList<>();
+        String text = "Where is the bathroom please";
+        for (int i = 1; i <= text.length(); i++) {
+            partial.addAll(session.update(text.substring(0, i)));
+        }
+        assertEquals(Collections.singletonList("BATHROOM"), partial);
+        assertEquals(Arrays.asList("PLEASE", "WHERE"), session.finish(text));
+    }
+
+    @Test
+    public void rewrittenWordsReturnTheCompleteFinalResult() {
+        ASLGlossConverter.Session session = converter.newSession();
+        session.update("We need");
+        session.update("We need wa");
+        assertEquals(Collections.singletonList("NEED"), session.update("We need wat"));
+        // The recognizer changes a word that was already emitted
+        session.update("We knead wat");
+        List<String> finished = session.finish("We knead water");
+        assertTrue(session.isRevised());
+        assertEquals(converter.convertToGlossTokens("We knead water"), finished);
+        assertEquals(finished, session.getEmittedTokens());
+    }
+
+    @Test
+    public void resetStartsAFreshUtterance() {
+        ASLGlossConverter.Session session = converter.newSession();
+        session.update("We need wa");
+        session.update("They need");
+        session.reset();
+        assertFalse(session.isRevised());
+        assertEquals(converter.convertToGlossTokens("Thank you please"), stream(session, "Thank you please"));
+    }
+
+    @Test
+    public void ignoresNullResults() {
+        ASLGlossConverter.Session session = converter.newSession();
+        assertTrue(session.update(null).isEmpty());
+        assertTrue(session.finish(null).isEmpty());
+    }
+
+    @Test
+    public void fillerPhrasesWaitForWhatFollowsThem() {
+        String[] texts = {
+                "I am tired you know",
+                "Do you know where the bathroom is",
+                "You know, I am tired",
+                "I am tired you know and hungry"
+        };
+        for (String text : texts) {
+            assertEquals(text, converter.convertToGlossTokens(text), stream(converter.newSession(), text));
+        }
+    }
+
+    @Test
+    public void lateTimeWordsGiveTheOneShotOrder() {
+        String[] texts = {
+                "I go home tomorrow",
+                "I am hungry. I go home tomorrow",
+                "Tomorrow I go home",
+                "I don't go home today",
+                "Where do you go tomorrow"
+        };
+        for (String text : texts) {
+            assertEquals(text, converter.convertToGlossTokens(text), stream(converter.newSession(), text));
+        }
+    }
+
+    @Test
+    public void lateTimeWordRevisesTheEmittedTokens() {
+        ASLGlossConverter.Session session = converter.newSession();
+        List<String> partial = new ArrayList<>();
+        partial.addAll(session.update("We go"));
+        partial.addAll(session.update("We go home"));
+        partial.addAll(session.update("We go home tom"));
+        assertEquals(Arrays.asList("WE", "GO"), partial);
+
+        List<String> finished = session.finish("We go home tomorrow");
+        assertTrue(session.isRevised());
+        assertEquals(Arrays.asList("TOMORROW", "WE", "GO", "HOME"), finished);
+        assertEquals(finished, session.getEmittedTokens());
+    }
+
+    @Test
+    public void timeWordBeforeAnyEmittedWordStaysIncremental() {
+        ASLGlossConverter.Session session = converter.newSession();
+        assertEquals(converter.convertToGlossTokens("Tomorrow we go home"), stream(session, "Tomorrow we go home"));
+        assertFalse(session.isRevised());
+    }
+
+    @Test
+    public void stackedPunctuationStillEndsTheSentence() {
+        for (String text : new String[] {"Where?, now I never go", "I don't?. I go home", "Why!) later we eat"}) {
+            ASLGlossConverter.Session session = converter.newSession();
+            assertEquals(text, converter.convertToGlossTokens(text), stream(session, text));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void valuesBelowTheLinearLimitAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 50; micros++) {
+            histogram.recordMicros(micros);
+        }
+        assertEquals(50, histogram.getCount());
+        assertEquals(25, histogram.getPercentileMicros(50));
+        assertEquals(50, histogram.getPercentileMicros(100));
+        assertEquals(25.5, histogram.getMeanMicros(), 1e-9);
+    }
+
+    @Test
+    public void largeValuesStayWithinThreePercent() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        long[] values = {1_000, 12_345, 250_000, 9_876_543};
+        for (long value : values) {
+            histogram.reset();
+            histogram.recordMicros(value);
+            histogram.recordMicros(value);
+            long p50 = histogram.getPercentileMicros(50);
+            assertTrue(value + " -> " + p50, Math.abs(p50 - value) <= value * 0.032);
+        }
+    }
+
+    @Test
+    public void percentilesNeverExceedTheMaximum() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordMicros(1_000);
+        assertEquals(1_000, histogram.getPercentileMicros(99));
+        assertEquals(1_000, histogram.getMaxMicros());
+    }
+
+    @Test
+    public void nanosAreRecordedAsMicrosAndNegativesClampToZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(40_999);
+        histogram.recordMicros(-5);
+        assertEquals(40, histogram.getMaxMicros());
+        assertEquals(0, histogram.getPercentileMicros(50));
+    }
+
+    @Test
+    public void countsValuesAboveABudget() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordMicros(10);
+        histogram.recordMicros(100_000);
+        histogram.recordMicros(200_000);
+        assertEquals(2, histogram.countAboveMicros(50_000));
+        assertEquals(0, histogram.countAboveMicros(300_000));
+    }
+
+    @Test
+    public void emptyAndResetHistogramsReportZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getPercentileMicros(99));
+        histogram.recordMicros(500);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxMicros());
+        assertEquals(0, histogram.getMeanMicros(), 0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyTrackerTest {
+
+    @Test
+    public void utteranceRecordsPlanAndFirstSignOnce() {
+        LatencyTracker tracker = new LatencyTracker();
+        LatencyTracker.Utterance utterance = tracker.beginUtterance();
+        utterance.markRecognized();
+        utterance.markPlanReady();
+        utterance.markPlanReady();
+        utterance.markFirstSign();
+        utterance.markFirstSign();
+
+        assertEquals(1, tracker.getHistogram(LatencyTracker.Stage.RECOGNITION).getCount());
+        assertEquals(1, tracker.getHistogram(LatencyTracker.Stage.SPEECH_TO_PLAN).getCount());
+        assertEquals(1, tracker.getHistogram(LatencyTracker.Stage.SPEECH_TO_FIRST_SIGN).getCount());
+        assertEquals(0, tracker.getHistogram(LatencyTracker.Stage.GLOSS).getCount());
+    }
+
+    @Test
+    public void reportListsOnlyStagesWithSamplesAndBudgets() {
+        LatencyTracker tracker = new LatencyTracker();
+        tracker.setBudgetMillis(LatencyTracker.Stage.GLOSS, 5);
+        tracker.getHistogram(LatencyTracker.Stage.GLOSS).recordMicros(10_000);
+        tracker.getHistogram(LatencyTracker.Stage.GLOSS).recordMicros(1_000);
+
+        String report = tracker.getReport();
+        assertTrue(report, report.contains(LatencyTracker.Stage.GLOSS.getLabel()));
+        assertTrue(report, report.contains("1 (> 5 ms)"));
+        assertFalse(report, report.contains(LatencyTracker.Stage.DECODE.getLabel()));
+
+        tracker.reset();
+        assertEquals(0, tracker.getHistogram(LatencyTracker.Stage.GLOSS).getCount());
+    }
+}
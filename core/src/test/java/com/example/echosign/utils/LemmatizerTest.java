@@ -0,0 +1,138 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class LemmatizerTest {
+
+    private static Map<String, Integer> forms(String lemma) {
+        final Map<String, Integer> forms = new LinkedHashMap<>();
+        Lemmatizer.inflect(lemma, new Lemmatizer.Sink() {
+            @Override
+            public void accept(String word, int kind) {
+                forms.put(word, kind);
+            }
+        });
+        return forms;
+    }
+
+    private static List<String> candidates(String word) {
+        final List<String> candidates = new ArrayList<>();
+        Lemmatizer.lemmaCandidates(word, new Lemmatizer.Sink() {
+            @Override
+            public void accept(String candidate, int kind) {
+                candidates.add(candidate);
+            }
+        });
+        return candidates;
+    }
+
+    @Test
+    public void inflectsRegularAndIrregularForms() {
+        Map<String, Integer> water = forms("WATER");
+        assertEquals(Integer.valueOf(Lemmatizer.KIND_PLURAL), water.get("WATERS"));
+        assertEquals(Integer.valueOf(Lemmatizer.KIND_RELATED), water.get("WATERING"));
+        assertTrue(forms("STOP").containsKey("STOPPING"));
+        assertTrue(forms("CRY").containsKey("CRIES"));
+        assertTrue(forms("LOVE").containsKey("LOVING"));
+        assertTrue(forms("EAT").containsKey("ATE"));
+        assertEquals(Integer.valueOf(Lemmatizer.KIND_PLURAL), forms("CHILD").get("CHILDREN"));
+    }
+
+    @Test
+    public void everyGeneratedFormLeadsBackToItsLemma() {
+        for (String lemma : new String[] {"WATER", "HELP", "LOVE", "CRY", "STOP", "PAY", "EAT", "FRIEND", "CHILD"}) {
+            for (String form : forms(lemma).keySet()) {
+                assertTrue(form + " -> " + lemma, candidates(form).contains(lemma));
+            }
+        }
+    }
+
+    @Test
+    public void stripsSuffixes() {
+        assertTrue(candidates("HELPFUL").contains("HELP"));
+        assertTrue(candidates("PAYMENT").contains("PAY"));
+        assertTrue(candidates("LOVABLE").contains("LOVE"));
+    }
+
+    @Test
+    public void leavesShortAndGrammarWordsAlone() {
+        assertFalse(forms("HI").containsKey("HIS"));
+        assertFalse(forms("HI").containsKey("HIED"));
+        assertFalse(forms("NO").containsKey("NOS"));
+        assertFalse(forms("ME").containsKey("MES"));
+        assertFalse(forms("YOU").containsKey("YOUS"));
+        assertFalse(forms("WHO").containsKey("WHOS"));
+        assertFalse(forms("NOW").containsKey("NOWS"));
+        assertTrue(forms("EAT").containsKey("EATING"));
+
+        assertTrue(candidates("HIS").isEmpty());
+        assertFalse(candidates("NOS").contains("NO"));
+        assertFalse(candidates("WHOS").contains("WHO"));
+        assertTrue(candidates("WENT").contains("GO"));
+    }
+
+    @Test
+    public void neverStripsRePrefixes() {
+        assertFalse(forms("STORE").containsKey("RESTORE"));
+        assertFalse(candidates("RESTORE").contains("STORE"));
+        assertFalse(candidates("REYES").contains("YES"));
+        assertFalse(candidates("PRETESTED").contains("TEST"));
+    }
+
+    @Test
+    public void hisAndRestoreDoNotResolveToASign() {
+        ASLDictionary dictionary = new ASLDictionary();
+        for (String word : new String[] {"HIS", "RESTORE", "REYES", "NOS", "MES", "YOUS", "WHOS", "NOWS", "HIED"}) {
+            assertNull(word, dictionary.getSign(word));
+            assertNull(word, dictionary.findAlias(word));
+            assertNull(word, dictionary.findLemma(word));
+        }
+    }
+
+    @Test
+    public void neverStripsNegatingAffixes() {
+        assertFalse(candidates("HELPLESS").contains("HELP"));
+        assertFalse(candidates("UNHAPPY").contains("HAPPY"));
+        assertFalse(candidates("DISLIKE").contains("LIKE"));
+        assertFalse(candidates("UNHELPFUL").contains("HELP"));
+
+        assertFalse(forms("HELP").containsKey("HELPLESS"));
+        assertFalse(forms("HAPPY").containsKey("UNHAPPY"));
+        assertFalse(forms("LIKE").containsKey("DISLIKE"));
+    }
+
+    @Test
+    public void negatedWordsNeverReachTheOppositeSign() {
+        ASLDictionary dictionary = new ASLDictionary();
+        assertNull(dictionary.findLemma("HELPLESS"));
+        assertNull(dictionary.findLemma("UNHAPPY"));
+        assertNull(dictionary.findLemma("UNHELPFUL"));
+
+        // Authored aliases still cover negated words that have a sign
+        assertEquals("SAD", dictionary.findAlias("UNHAPPY").getWord());
+
+        ASLDictionary.LemmaMatch helpful = dictionary.findLemma("HELPFUL");
+        assertNotNull(helpful);
+        assertEquals("HELP", helpful.getLemma());
+        assertFalse(helpful.isPlural());
+        assertTrue(dictionary.findLemma("friends").isPlural());
+    }
+
+    @Test
+    public void ignoresNonLetters() {
+        assertTrue(forms("").isEmpty());
+        assertTrue(forms("10").isEmpty());
+        assertTrue(candidates("water").isEmpty());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class PhraseTrieTest {
+
+    private static PhraseTrie trie() {
+        Map<String, String> phrases = new HashMap<>();
+        phrases.put("thank you", "THANKYOU");
+        phrases.put("thank you very much", "THANKYOUVERYMUCH");
+        phrases.put("you know", null);
+        phrases.put("single", "SINGLE");
+        return new PhraseTrie(phrases);
+    }
+
+    private static int walk(PhraseTrie trie, String phrase) {
+        int node = PhraseTrie.ROOT;
+        for (String word : phrase.split(" ")) {
+            char[] chars = word.toCharArray();
+            int id = trie.wordId(chars, chars.length);
+            if (id < 0) {
+                return PhraseTrie.NO_NODE;
+            }
+            node = trie.child(node, id);
+            if (node == PhraseTrie.NO_NODE) {
+                return node;
+            }
+        }
+        return node;
+    }
+
+    @Test
+    public void terminalNodesCarryTheirOutput() {
+        PhraseTrie trie = trie();
+        int node = walk(trie, "THANK YOU");
+        assertTrue(trie.isTerminal(node));
+        assertEquals("THANKYOU", trie.output(node));
+        // Can still grow into the longer phrase
+        assertTrue(trie.hasChildren(node));
+        assertEquals("THANKYOUVERYMUCH", trie.output(walk(trie, "THANK YOU VERY MUCH")));
+    }
+
+    @Test
+    public void fillerPhrasesHaveNoOutput() {
+        PhraseTrie trie = trie();
+        int node = walk(trie, "YOU KNOW");
+        assertTrue(trie.isTerminal(node));
+        assertNull(trie.output(node));
+    }
+
+    @Test
+    public void prefixesAreNotTerminal() {
+        PhraseTrie trie = trie();
+        int node = walk(trie, "THANK YOU VERY");
+        assertFalse(trie.isTerminal(node));
+        assertTrue(trie.hasChildren(node));
+        assertEquals(PhraseTrie.NO_NODE, walk(trie, "THANK VERY"));
+    }
+
+    @Test
+    public void singleWordsAndUnknownWordsAreNotInTheTrie() {
+        PhraseTrie trie = trie();
+        assertEquals(PhraseTrie.NO_NODE, walk(trie, "SINGLE"));
+        assertEquals(PhraseTrie.NO_NODE, walk(trie, "WATER"));
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SignClipManifestTest {
+
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, 1, 2, 3, (byte) 0xFF, (byte) 0xD9};
+
+    private static byte[] manifest(List<String> names) throws IOException {
+        List<ClipProbe> clips = Arrays.asList(
+                ClipProbeTest.probe(ClipProbeTest.gif(64, 48, 5, 5)),
+                ClipProbeTest.probe(ClipProbeTest.webp(420, 236, 40, 60, 50)));
+        List<byte[]> thumbnails = Arrays.asList(JPEG, new byte[0]);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            ClipTranscoder.writeManifest(names, clips, thumbnails, out);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void roundTripsClipMetadata() throws IOException {
+        SignClipManifest manifest = new SignClipManifest(ByteBuffer.wrap(manifest(Arrays.asList("asl_help", "asl_water"))));
+        assertEquals(2, manifest.size());
+
+        SignClip help = manifest.get("asl_help");
+        assertEquals("asl_help", help.getName());
+        assertEquals(2, help.getFrameCount());
+        assertEquals(100, help.getDurationMillis());
+        assertEquals(64 * 48 * 4, help.getFrameBytes());
+        assertEquals(ClipProbeTest.gif(64, 48, 5, 5).length, help.getBytes());
+        assertTrue(help.hasThumbnail());
+        assertArrayEquals(JPEG, help.getThumbnail());
+
+        SignClip water = manifest.get("asl_water");
+        assertEquals(420, water.getWidth());
+        assertEquals(236, water.getHeight());
+        assertEquals(3, water.getFrameCount());
+        assertEquals(150, water.getDurationMillis());
+        assertFalse(water.hasThumbnail());
+
+        assertNull(manifest.get("asl_zebra"));
+        assertNull(manifest.get(null));
+    }
+
+    @Test
+    public void readsFromAnOffsetBuffer() throws IOException {
+        byte[] data = manifest(Arrays.asList("asl_help", "asl_water"));
+        ByteBuffer buffer = ByteBuffer.allocate(data.length + 3);
+        buffer.position(3);
+        buffer.put(data);
+        buffer.position(3);
+        assertArrayEquals(JPEG, new SignClipManifest(buffer).get("asl_help").getThumbnail());
+    }
+
+    @Test
+    public void rejectsInvalidManifests() throws IOException {
+        byte[] valid = manifest(Arrays.asList("asl_help", "asl_water"));
+        expectInvalid(Arrays.copyOf(valid, valid.length - 1));
+        expectInvalid(new byte[SignClipManifest.HEADER_BYTES]);
+        expectInvalid(manifest(Arrays.asList("asl_water", "asl_help")));
+
+        byte[] newer = valid.clone();
+        ByteBuffer.wrap(newer).putInt(4, SignClipManifest.VERSION + 1);
+        expectInvalid(newer);
+    }
+
+    @Test
+    public void emptyManifestHasNoClips() {
+        assertEquals(0, SignClipManifest.EMPTY.size());
+        assertNull(SignClipManifest.EMPTY.get("asl_help"));
+    }
+
+    private static void expectInvalid(byte[] data) {
+        try {
+            new SignClipManifest(ByteBuffer.wrap(data));
+            fail("Accepted an invalid manifest");
+        } catch (IllegalArgumentException expected) {
+            // rejected when loaded
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.echosign.utils;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SignMapperTest {
+
+    private static ASLDictionary dictionary;
+
+    @BeforeClass
+    public static void loadDictionary() {
+        dictionary = new ASLDictionary();
+    }
+
+    @Test
+    public void translatesOnAPlainJvm() {
+        SignMapper mapper = new SignMapper(dictionary);
+        SignPlan plan = mapper.buildPlan("I need water please");
+
+        assertEquals(Arrays.asList("I", "NEED", "WATER", "PLEASE"), plan.getTokens());
+        assertEquals("I NEED WATER PLEASE", plan.getGloss());
+        assertEquals(4, plan.getEnglishWordCount());
+        assertEquals("I NEED WATER PLEASE", mapper.processTextWithASLGloss("I need water please"));
+    }
+
+    @Test
+    public void withoutAResolverNoTokenHasAClip() {
+        SignPlan plan = new SignMapper(dictionary).buildPlan("Hello, thank you");
+        for (int i = 0; i < plan.size(); i++) {
+            assertNotNull(plan.getSign(i));
+            assertEquals(0, plan.getResourceId(i));
+        }
+    }
+
+    @Test
+    public void resolverSuppliesClipIds() {
+        SignMapper mapper = new SignMapper(dictionary, new SignMapper.ResourceResolver() {
+            @Override
+            public int resourceId(String resourceName) {
+                return resourceName.equals("asl_water") ? 42 : 0;
+            }
+        });
+        SignPlan plan = mapper.buildPlan("I need water");
+        assertEquals(42, plan.getResourceId(2));
+        assertEquals(0, plan.getResourceId(1));
+    }
+
+    @Test
+    public void blankInputGivesNoTokens() {
+        SignMapper mapper = new SignMapper(dictionary);
+        assertEquals("", mapper.processTextWithASLGloss("  "));
+        assertTrue(mapper.buildPlan("the of a").isEmpty());
+        assertFalse(mapper.hasSignForGlossWord(" "));
+    }
+
+    @Test
+    public void resolvesEachMatchKind() {
+        SignMapper mapper = new SignMapper(dictionary);
+        assertEquals(SignResolution.MatchKind.EXACT, mapper.resolve("WATER").getKind());
+
+        SignResolution plural = mapper.resolve("WATERS");
+        assertEquals(SignResolution.MatchKind.PLURAL, plural.getKind());
+        assertEquals("WATER", plural.getSign().getWord());
+
+        assertEquals(SignResolution.MatchKind.VARIATION, mapper.resolve("HELPING").getKind());
+        assertEquals(SignResolution.MatchKind.ALIAS, mapper.resolve("THANKS").getKind());
+
+        SignResolution spelled = mapper.resolve("ZEBRA");
+        assertEquals(SignResolution.MatchKind.FINGERSPELL, spelled.getKind());
+        assertFalse(spelled.hasSign());
+        assertNull(spelled.getResourceName());
+    }
+
+    @Test
+    public void cachesFillerAndNonFillerReadingsSeparately() {
+        SignMapper mapper = new SignMapper(dictionary);
+        assertEquals(Arrays.asList("I", "SCHOOL"), mapper.buildPlan("You know, I like school").getTokens());
+        assertEquals(Arrays.asList("YOU", "KNOW", "I", "SCHOOL"),
+                mapper.buildPlan("You know I like school").getTokens());
+    }
+
+    @Test
+    public void neverShowsAWrongSignForGrammarWords() {
+        SignMapper mapper = new SignMapper(dictionary);
+        SignResolution his = mapper.resolve("HIS");
+        assertEquals(SignResolution.MatchKind.FINGERSPELL, his.getKind());
+        assertFalse(his.hasSign());
+
+        SignPlan plan = mapper.buildPlan("his school");
+        assertEquals(Arrays.asList("HIS", "SCHOOL"), plan.getTokens());
+        assertNull(plan.getSign(0));
+        assertFalse(mapper.resolve("RESTORE").hasSign());
+    }
+
+    @Test
+    public void resolvesEachDistinctTokenOnce() {
+        SignMapper mapper = new SignMapper(dictionary);
+        SignResolution first = mapper.resolve("WATER");
+        assertSame(first, mapper.resolve("WATER"));
+        assertTrue(mapper.getCacheStats(), mapper.getCacheStats().contains("(1 hits, 1 misses)"));
+    }
+
+    @Test
+    public void normalizesTokensBeforeResolving() {
+        SignMapper mapper = new SignMapper(dictionary);
+        SignResolution resolution = mapper.resolve("water's");
+        assertEquals("WATERS", resolution.getKey());
+        assertEquals(SignResolution.MatchKind.PLURAL, resolution.getKind());
+        assertTrue(mapper.hasSignForGlossWord("Water"));
+        assertEquals(dictionary.getSign("WATER"), mapper.getSignDetails("water"));
+    }
+}
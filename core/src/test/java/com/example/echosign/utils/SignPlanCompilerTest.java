@@ -0,0 +1,132 @@
+package com.example.echosign.utils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SignPlanCompilerTest {
+
+    private SignMapper mapper;
+    private SignPlanCompiler compiler;
+    private final BlockingQueue<SignPlan> plans = new ArrayBlockingQueue<>(4);
+    private final SignPlanCompiler.PlanListener planListener = new SignPlanCompiler.PlanListener() {
+        @Override
+        public void onPlanReady(SignPlan plan) {
+            plans.add(plan);
+        }
+    };
+
+    private final SignPlanCompiler.GlossListener glossListener = new SignPlanCompiler.GlossListener() {
+        @Override
+        public void onGlossUpdated(List<String> glossTokens) {
+        }
+    };
+
+    @Before
+    public void createCompiler() {
+        mapper = new SignMapper(new ASLDictionary());
+        compiler = mapper.newPlanCompiler(new LatencyTracker());
+    }
+
+    @After
+    public void shutdown() {
+        compiler.shutdown();
+    }
+
+    private SignPlan nextPlan() throws InterruptedException {
+        SignPlan plan = plans.poll(5, TimeUnit.SECONDS);
+        assertNotNull("no plan within 5 s", plan);
+        return plan;
+    }
+
+    private void speak(String text) {
+        for (int i = 1; i <= text.length(); i++) {
+            compiler.update(text.substring(0, i), glossListener);
+        }
+        compiler.compile(text, planListener);
+    }
+
+    @Test
+    public void streamedUtteranceCachesTheOneShotOrder() throws InterruptedException {
+        String text = "I go home tomorrow";
+        SignPlan oneShot = new SignMapper(new ASLDictionary()).buildPlan(text);
+
+        speak(text);
+        SignPlan streamed = nextPlan();
+        assertEquals(oneShot.getTokens(), streamed.getTokens());
+        assertEquals(oneShot.getTokens(), mapper.getCachedPlan(text).getTokens());
+    }
+
+    @Test
+    public void partialResultsReportTokensAsTheyBecomeFinal() throws InterruptedException {
+        final BlockingQueue<List<String>> updates = new LinkedBlockingQueue<>();
+        String text = "We need water please";
+        for (int i = 1; i <= text.length(); i++) {
+            compiler.update(text.substring(0, i), new SignPlanCompiler.GlossListener() {
+                @Override
+                public void onGlossUpdated(List<String> glossTokens) {
+                    updates.add(glossTokens);
+                }
+            });
+        }
+        compiler.compile(text, planListener);
+        SignPlan plan = nextPlan();
+
+        assertEquals(Arrays.asList("WE", "NEED", "WATER", "PLEASE"), plan.getTokens());
+        List<String> last = null;
+        for (List<String> update; (update = updates.poll()) != null; ) {
+            assertTrue(last == null || update.size() > last.size());
+            last = update;
+        }
+        assertEquals(Arrays.asList("WE", "NEED", "WATER"), last);
+    }
+
+    @Test
+    public void repeatedUtterancesReuseTheCachedPlan() throws InterruptedException {
+        speak("I need water");
+        SignPlan first = nextPlan();
+        speak("I need water");
+        assertSame(first, nextPlan());
+    }
+
+    @Test
+    public void resetDropsWorkQueuedBeforeIt() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        SignPlanCompiler.GlossListener blocking = new SignPlanCompiler.GlossListener() {
+            @Override
+            public void onGlossUpdated(List<String> glossTokens) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        // The second identical hypothesis makes WE final and parks the worker
+        compiler.update("We need ", blocking);
+        compiler.update("We need ", blocking);
+        compiler.compile("We need water", planListener);
+        compiler.reset();
+        release.countDown();
+
+        assertNull(plans.poll(200, TimeUnit.MILLISECONDS));
+        assertNull(mapper.getCachedPlan("We need water"));
+
+        speak("We need help");
+        assertEquals(Arrays.asList("WE", "NEED", "HELP"), nextPlan().getTokens());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.echosign.utils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SignSearchIndexTest {
+
+    private static final String SIGNS = "word,category,description,usage,core\n"
+            + "water,Needs,\"W handshape, tap chin\",I need water,\n"
+            + "chin,Body,Point at the chin,Touch chin,\n"
+            + "flat,Shapes,Flat palm facing down,A flat road,\n"
+            + "food,Needs,Flat O hand taps lips,Asking for food,\n";
+
+    private BinaryDictionary dictionary;
+    private SignSearchIndex index;
+
+    @Before
+    public void setUp() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DictionaryCompiler.compile(new StringReader(SIGNS), out);
+        dictionary = new BinaryDictionary(ByteBuffer.wrap(out.toByteArray()));
+        index = new SignSearchIndex(dictionary);
+    }
+
+    private List<String> search(String query, int limit) {
+        List<String> words = new ArrayList<>();
+        for (int record : index.search(query, limit)) {
+            words.add(dictionary.getField(record, BinaryDictionary.FIELD_WORD));
+        }
+        return words;
+    }
+
+    @Test
+    public void matchesEveryQueryTokenAsAPrefix() {
+        assertEquals(Arrays.asList("flat", "food"), search("fla", 10));
+        assertEquals(Arrays.asList("flat"), search("flat pal", 10));
+        assertTrue(search("flat zebra", 10).isEmpty());
+    }
+
+    @Test
+    public void ranksByFieldWeightWithWholeWordsFirst() {
+        // Word field beats usage and description
+        assertEquals(Arrays.asList("chin", "water"), search("chin", 10));
+        // Equal scores keep gloss key order
+        assertEquals(Arrays.asList("food", "water"), search("needs", 10));
+    }
+
+    @Test
+    public void limitsResultsAndReusesScratchBetweenQueries() {
+        assertEquals(Arrays.asList("chin"), search("chin", 1));
+        assertEquals(Arrays.asList("chin", "water"), search("chin", 10));
+        assertTrue(search("chin", 0).isEmpty());
+    }
+
+    @Test
+    public void tokenizesCaseInsensitivelyWithoutStopWords() {
+        List<String> tokens = new ArrayList<>();
+        SignSearchIndex.tokenize("Tap the chin, then 2x", tokens);
+        assertEquals(Arrays.asList("TAP", "CHIN", "2X"), tokens);
+        assertTrue(search("the", 10).isEmpty());
+        assertTrue(search(null, 10).isEmpty());
+    }
+
+    @Test
+    public void dictionarySearchReturnsSigns() {
+        ASLDictionary bundled = new ASLDictionary();
+        List<ASLDictionary.ASLSign> results = bundled.search("wat", 5);
+        assertEquals("WATER", results.get(0).getWord());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+public class SignTimelineTest {
+
+    /**
+     * WATER plays a 1500 ms clip, HI is fingerspelled for the 2000 ms minimum,
+     * ALEXANDRA for 9 letters x 400 ms
+     */
+    private static SignPlan plan() {
+        ASLDictionary.ASLSign water = new ASLDictionary.ASLSign("WATER", "Tap chin", "Needs", "I need water");
+        SignClip clip = new SignClip("asl_water", 45, 1500, 64, 48, 1000, ByteBuffer.allocate(0));
+        List<SignResolution> resolutions = new ArrayList<>();
+        resolutions.add(new SignResolution("WATER", water, SignResolution.MatchKind.EXACT, null, 7, clip));
+        resolutions.add(new SignResolution("HI", null, SignResolution.MatchKind.FINGERSPELL, null, 0, null));
+        resolutions.add(new SignResolution("ALEXANDRA", null, SignResolution.MatchKind.FINGERSPELL, null, 0, null));
+        return new SignPlan("water hi Alexandra", Arrays.asList("WATER", "HI", "ALEXANDRA"), resolutions);
+    }
+
+    @Test
+    public void tokensFollowEachOtherAtNormalSpeed() {
+        SignTimeline timeline = new SignTimeline(plan(), 1f);
+        assertEquals(3, timeline.size());
+        assertEquals(0, timeline.getStartMillis(0));
+        assertEquals(1500, timeline.getEndMillis(0));
+        assertEquals(1500, timeline.getStartMillis(1));
+        assertEquals(2000, timeline.getDurationMillis(1));
+        assertEquals(3600, timeline.getDurationMillis(2));
+        assertEquals(7100, timeline.getTotalMillis());
+        assertEquals(3 * 60000.0 / 7100, timeline.getSignsPerMinute(), 1e-9);
+    }
+
+    @Test
+    public void speedScalesEveryToken() {
+        SignTimeline fast = new SignTimeline(plan(), 2f);
+        assertEquals(750, fast.getDurationMillis(0));
+        assertEquals(3550, fast.getTotalMillis());
+
+        SignTimeline slow = new SignTimeline(plan(), 0.5f);
+        assertEquals(3000, slow.getDurationMillis(0));
+        assertEquals(14200, slow.getTotalMillis());
+    }
+
+    @Test
+    public void findsTheTokenOnScreen() {
+        SignTimeline timeline = new SignTimeline(plan(), 1f);
+        assertEquals(0, timeline.indexAt(0));
+        assertEquals(0, timeline.indexAt(1499));
+        assertEquals(1, timeline.indexAt(1500));
+        assertEquals(2, timeline.indexAt(7099));
+        assertEquals(3, timeline.indexAt(7100));
+    }
+
+    @Test
+    public void emptyPlanHasAnEmptyTimeline() {
+        SignTimeline timeline = new SignTimeline(new SignPlan("", new ArrayList<String>(),
+                new ArrayList<SignResolution>()), 1f);
+        assertEquals(0, timeline.getTotalMillis());
+        assertEquals(0, timeline.getSignsPerMinute(), 0);
+        assertEquals(0, timeline.indexAt(0));
+    }
+
+    @Test
+    public void rejectsSpeedsOutOfRange() {
+        for (float speed : new float[] {0.25f, 3f, Float.NaN}) {
+            try {
+                new SignTimeline(plan(), speed);
+                fail("Accepted speed " + speed);
+            } catch (IllegalArgumentException expected) {
+                // playback speed is clamped by the UI
+            }
+        }
+    }
+}
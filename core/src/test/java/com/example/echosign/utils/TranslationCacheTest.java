@@ -0,0 +1,106 @@
+package com.example.echosign.utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TranslationCacheTest {
+
+    private static SignPlan plan(String... tokens) {
+        List<SignResolution> resolutions = new ArrayList<>();
+        for (String token : tokens) {
+            resolutions.add(new SignResolution(token, null, SignResolution.MatchKind.FINGERSPELL, null, 0, null));
+        }
+        List<String> tokenList = new ArrayList<>();
+        Collections.addAll(tokenList, tokens);
+        return new SignPlan(String.join(" ", tokenList), tokenList, resolutions);
+    }
+
+    @Test
+    public void normalizesCaseSpacingAndPunctuation() {
+        assertEquals("THANK YOU", TranslationCache.normalize("Thank you!"));
+        assertEquals("THANK YOU", TranslationCache.normalize("  thank \t you "));
+        assertEquals("HELLO. HOW ARE YOU", TranslationCache.normalize("Hello! How are you?"));
+        assertEquals("ITS OK", TranslationCache.normalize("It's OK"));
+    }
+
+    @Test
+    public void keepsClauseBreaksInTheKey() {
+        assertEquals("YOU KNOW, I LIKE SCHOOL", TranslationCache.normalize("You know, I like school"));
+        assertEquals("YOU KNOW I LIKE SCHOOL", TranslationCache.normalize("You know I like school"));
+        assertEquals("WAIT. NOW", TranslationCache.normalize("Wait?, now"));
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedFirst() {
+        TranslationCache cache = new TranslationCache(2, Long.MAX_VALUE);
+        cache.put("A", plan("A"));
+        cache.put("B", plan("B"));
+        assertNotNull(cache.get("A"));
+        cache.put("C", plan("C"));
+
+        assertNull(cache.get("B"));
+        assertNotNull(cache.get("A"));
+        assertNotNull(cache.get("C"));
+    }
+
+    @Test
+    public void evictsToStayUnderTheByteCap() {
+        SignPlan plan = plan("WATER");
+        long entry = plan.estimateBytes() + "W1".length() * 2 + 40;
+        TranslationCache cache = new TranslationCache(100, entry * 2);
+        cache.put("W1", plan);
+        cache.put("W2", plan);
+        cache.put("W3", plan);
+
+        assertNull(cache.get("W1"));
+        assertSame(plan, cache.get("W2"));
+        assertSame(plan, cache.get("W3"));
+    }
+
+    @Test
+    public void skipsPlansLargerThanTheWholeCache() {
+        TranslationCache cache = new TranslationCache(10, 64);
+        cache.put("BIG", plan("A", "B", "C"));
+        assertNull(cache.get("BIG"));
+    }
+
+    @Test
+    public void replacingAnEntryKeepsOneCopy() {
+        TranslationCache cache = new TranslationCache(1, Long.MAX_VALUE);
+        SignPlan second = plan("B");
+        cache.put("K", plan("A"));
+        cache.put("K", second);
+        assertSame(second, cache.get("K"));
+    }
+
+    @Test
+    public void countsHitsAndMisses() {
+        TranslationCache cache = new TranslationCache(4, Long.MAX_VALUE);
+        cache.put("A", plan("A"));
+        cache.get("A");
+        cache.get("A");
+        cache.get("B");
+        assertEquals(2, cache.getHits());
+        assertEquals(1, cache.getMisses());
+
+        cache.clear();
+        assertNull(cache.get("A"));
+    }
+
+    @Test
+    public void signMapperReusesPlansForTheSameUtterance() {
+        SignMapper mapper = new SignMapper(new ASLDictionary());
+        SignPlan plan = mapper.buildPlan("Thank you for your help");
+        assertSame(plan, mapper.buildPlan("thank you for your help!"));
+        assertSame(plan, mapper.getCachedPlan("Thank  you for your help"));
+        assertNull(mapper.getCachedPlan("Thank you. For your help"));
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.echosign.utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Frame metadata of a sign clip (GIF or animated WebP) read from its
+ * container structure, without decoding any pixels: canvas size, frame
+ * count and total duration. GIF frame delays below 20 ms count as 100 ms,
+ * as in Glide's GIF decoder. A file that ends early reports the frames it
+ * completed and isTruncated(). Bytes after the end of the clip data (the
+ * GIF trailer, or the RIFF length) are padding; getDataBytes() excludes them.
+ */
+final class ClipProbe {
+
+    private static final int MIN_DELAY_CS = 2;
+    private static final int DEFAULT_DELAY_CS = 10;
+
+    final int width;
+    final int height;
+    final int frameCount;
+    final int durationMillis;
+    final long bytes;
+    final long dataBytes;
+    final boolean truncated;
+
+    private ClipProbe(int width, int height, int frameCount, int durationMillis, long bytes, long dataBytes,
+                      boolean truncated) {
+        this.width = width;
+        this.height = height;
+        this.frameCount = frameCount;
+        this.durationMillis = durationMillis;
+        this.bytes = bytes;
+        this.dataBytes = Math.min(dataBytes, bytes);
+        this.truncated = truncated;
+    }
+
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Length of the clip data without trailing padding
+     */
+    long getDataBytes() {
+        return dataBytes;
+    }
+
+    /**
+     * Average frames per second over the clip (0 for a still image)
+     */
+    double framesPerSecond() {
+        return durationMillis == 0 ? 0 : frameCount * 1000.0 / durationMillis;
+    }
+
+    static ClipProbe read(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            return read(in, file.length());
+        }
+    }
+
+    static ClipProbe read(InputStream stream, long bytes) throws IOException {
+        Reader in = new Reader(stream);
+        int first = in.read();
+        if (first == 'G' && in.read() == 'I' && in.read() == 'F') {
+            return readGif(in, bytes);
+        }
+        if (first == 'R' && in.read() == 'I' && in.read() == 'F' && in.read() == 'F') {
+            return readWebp(in, bytes);
+        }
+        throw new IOException("Not a GIF or WebP clip");
+    }
+
+    private static ClipProbe readGif(Reader in, long bytes) throws IOException {
+        in.skip(3); // version
+        int width = in.readShort();
+        int height = in.readShort();
+        int packed = in.read();
+        in.skip(2); // background color, aspect ratio
+        if ((packed & 0x80) != 0) {
+            in.skip(3 << ((packed & 0x07) + 1));
+        }
+
+        int frames = 0;
+        int duration = 0;
+        int delay = DEFAULT_DELAY_CS;
+        try {
+            while (true) {
+                int block = in.read();
+                if (block == 0x3B || block < 0) {
+                    return new ClipProbe(width, height, frames, duration, bytes, in.position(), block < 0);
+                } else if (block == 0x21) {
+                    int label = in.read();
+                    if (label == 0xF9) {
+                        in.read(); // block size
+                        in.read(); // disposal / flags
+                        delay = in.readShort();
+                        in.skip(2); // transparent index, terminator
+                    } else {
+                        in.skipSubBlocks();
+                    }
+                } else if (block == 0x2C) {
+                    in.skip(8); // position and size
+                    int imagePacked = in.read();
+                    if ((imagePacked & 0x80) != 0) {
+                        in.skip(3 << ((imagePacked & 0x07) + 1));
+                    }
+                    in.read(); // LZW minimum code size
+                    in.skipSubBlocks();
+                    frames++;
+                    duration += (delay < MIN_DELAY_CS ? DEFAULT_DELAY_CS : delay) * 10;
+                    delay = DEFAULT_DELAY_CS;
+                } else {
+                    throw new IOException("Corrupt GIF block 0x" + Integer.toHexString(block));
+                }
+            }
+        } catch (EndOfClip e) {
+            return new ClipProbe(width, height, frames, duration, bytes, bytes, true);
+        }
+    }
+
+    // RIFF container: VP8X holds the canvas size, each ANMF chunk one frame
+    private static ClipProbe readWebp(Reader in, long bytes) throws IOException {
+        long riffEnd = in.readInt() + 8;
+        if (in.readFourCc() != fourCc("WEBP")) {
+            throw new IOException("Not a WebP clip");
+        }
+
+        int width = 0;
+        int height = 0;
+        int frames = 0;
+        int duration = 0;
+        try {
+            while (true) {
+                int chunk = in.readFourCc();
+                long size = in.readInt();
+                long padded = size + (size & 1);
+                if (chunk == fourCc("VP8X")) {
+                    in.skip(4); // flags, reserved
+                    width = in.readInt24() + 1;
+                    height = in.readInt24() + 1;
+                    in.skip(padded - 10);
+                } else if (chunk == fourCc("ANMF")) {
+                    in.skip(12); // offset and size
+                    duration += in.readInt24();
+                    frames++;
+                    in.skip(padded - 15);
+                } else if (chunk == fourCc("VP8 ") || chunk == fourCc("VP8L")) {
+                    // Still image without a VP8X header: size from the bitstream
+                    if (width == 0) {
+                        long[] bitstream = chunk == fourCc("VP8L") ? in.readVp8lSize() : in.readVp8Size();
+                        width = (int) bitstream[0];
+                        height = (int) bitstream[1];
+                        in.skip(padded - bitstream[2]);
+                    } else {
+                        in.skip(padded);
+                    }
+                    frames++;
+                } else {
+                    in.skip(padded);
+                }
+            }
+        } catch (EndOfClip e) {
+            // Chunks end with the file; a clip without frames was cut short
+            return new ClipProbe(width, height, frames, duration, bytes, riffEnd, frames == 0);
+        }
+    }
+
+    private static int fourCc(String tag) {
+        return tag.charAt(0) | tag.charAt(1) << 8 | tag.charAt(2) << 16 | tag.charAt(3) << 24;
+    }
+
+    private static final class EndOfClip extends IOException {
+        private static final long serialVersionUID = 1L;
+    }
+
+    private static final class Reader {
+        private final InputStream in;
+        private long position = 0;
+
+        Reader(InputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Bytes consumed so far
+         */
+        long position() {
+            return position;
+        }
+
+        int read() throws IOException {
+            int value = in.read();
+            if (value >= 0) {
+                position++;
+            }
+            return value;
+        }
+
+        // Little-endian, as in both GIF and RIFF
+        int readShort() throws IOException {
+            int low = require(read());
+            int high = require(read());
+            return low | high << 8;
+        }
+
+        int readInt24() throws IOException {
+            return readShort() | require(read()) << 16;
+        }
+
+        long readInt() throws IOException {
+            return (readShort() | (long) readShort() << 16) & 0xffffffffL;
+        }
+
+        int readFourCc() throws IOException {
+            return (int) readInt();
+        }
+
+        // Frame tag, start code, then 14-bit width and height; returns bytes read
+        long[] readVp8Size() throws IOException {
+            skip(6);
+            return new long[] {readShort() & 0x3fff, readShort() & 0x3fff, 10};
+        }
+
+        // Signature byte, then 14-bit width - 1 and height - 1
+        long[] readVp8lSize() throws IOException {
+            skip(1);
+            long bits = readInt();
+            return new long[] {(bits & 0x3fff) + 1, ((bits >> 14) & 0x3fff) + 1, 5};
+        }
+
+        void skip(long count) throws IOException {
+            while (count > 0) {
+                long skipped = in.skip(count);
+                if (skipped <= 0) {
+                    require(read());
+                    skipped = 1;
+                } else {
+                    position += skipped;
+                }
+                count -= skipped;
+            }
+        }
+
+        void skipSubBlocks() throws IOException {
+            int size;
+            while ((size = require(read())) != 0) {
+                skip(size);
+            }
+        }
+
+        private static int require(int value) throws EndOfClip {
+            if (value < 0) {
+                throw new EndOfClip();
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.example.echosign.utils;
+
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.imageio.ImageIO;
+
+/**
+ * Build-time transcoder for sign clips, run by the :app:transcodeSignClips
+ * Gradle task:
+ *   ClipTranscoder <clipDir> <resDir> <manifest> <report> <signs.bin>
+ *                  <maxSize> <fps> [ffmpeg]
+ *
+ * Every asl_*.gif in clipDir becomes an animated WebP in resDir/raw, scaled
+ * to fit maxSize pixels (the on-screen size; never upscaled) and resampled
+ * to at most fps frames per second. The report lists file size, frame
+ * buffer size and decoded pixels per second before and after each clip.
+ * Without ffmpeg the GIFs are copied unchanged apart from padding after
+ * their trailer, with a warning giving the size that ships; the app's
+ * release build refuses such clips.
+ *
+ * Clips are checked against the compiled dictionary: a clip that no sign
+ * uses fails the build, and signs without a clip (fingerspelled) are listed
+ * in the report. The frame count, duration, size and a first-frame
+ * thumbnail of every output clip go into the manifest (SignClipManifest).
+ */
+public final class ClipTranscoder {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final int WEBP_QUALITY = 75;
+    private static final int THUMBNAIL_SIZE = 96;
+
+    private ClipTranscoder() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length != 7 && args.length != 8) {
+            throw new IllegalArgumentException("Usage: ClipTranscoder <clipDir> <resDir> <manifest> <report>"
+                    + " <signs.bin> <maxSize> <fps> [ffmpeg]");
+        }
+        File clipDir = new File(args[0]);
+        File rawDir = new File(args[1], "raw");
+        File manifest = new File(args[2]);
+        File report = new File(args[3]);
+        File dictionary = new File(args[4]);
+        int maxSize = Integer.parseInt(args[5]);
+        int fps = Integer.parseInt(args[6]);
+        String ffmpeg = args.length == 8 ? args[7] : "ffmpeg";
+        System.setProperty("java.awt.headless", "true");
+
+        File[] files = clipDir.listFiles();
+        if (files == null) {
+            throw new IOException("No clip directory " + clipDir);
+        }
+        Map<String, File> clips = new TreeMap<>();
+        for (File file : files) {
+            String name = file.getName();
+            if (name.startsWith("asl_") && name.endsWith(".gif")) {
+                clips.put(name.substring(0, name.length() - ".gif".length()), file);
+            }
+        }
+
+        // Clip name -> sign word for every dictionary sign
+        BinaryDictionary signs = new BinaryDictionary(ByteBuffer.wrap(Files.readAllBytes(dictionary.toPath())));
+        Map<String, String> signClips = new TreeMap<>();
+        for (int i = 0; i < signs.size(); i++) {
+            ASLDictionary.ASLSign sign = signs.readSign(i);
+            signClips.put(sign.getGifResource(), sign.getWord());
+        }
+        for (String base : clips.keySet()) {
+            if (!signClips.containsKey(base)) {
+                throw new IllegalArgumentException("Clip " + base + ".gif matches no dictionary sign");
+            }
+        }
+
+        mkdirs(rawDir);
+        mkdirs(manifest.getParentFile());
+        mkdirs(report.getParentFile());
+
+        // Drop outputs of clips that were removed or renamed
+        File[] stale = rawDir.listFiles();
+        if (stale != null) {
+            for (File file : stale) {
+                if (!file.delete()) {
+                    throw new IOException("Cannot delete " + file);
+                }
+            }
+        }
+
+        boolean transcode = hasFfmpeg(ffmpeg);
+        List<String> rows = new ArrayList<>();
+        List<ClipProbe> outputs = new ArrayList<>();
+        List<byte[]> thumbnails = new ArrayList<>();
+        long sourceTotal = 0;
+        long outputTotal = 0;
+        for (Map.Entry<String, File> entry : clips.entrySet()) {
+            String base = entry.getKey();
+            File clip = entry.getValue();
+            String name = clip.getName();
+            ClipProbe info = ClipProbe.read(clip);
+            if (info.frameCount == 0) {
+                throw new IllegalArgumentException("Clip " + name + " has no frames");
+            }
+            if (info.isTruncated()) {
+                System.out.println("ClipTranscoder: warning: " + name + " ends early (" + info.frameCount + " frames)");
+            }
+
+            double scale = Math.min(1.0, (double) maxSize / Math.max(info.width, info.height));
+            int width = even(info.width * scale);
+            int height = even(info.height * scale);
+            // Resample down only; never invent frames
+            double outputFps = Math.max(1, Math.min(fps, Math.round(info.framesPerSecond())));
+
+            File output;
+            if (transcode) {
+                output = new File(rawDir, base + ".webp");
+                run(ffmpeg, "-v", "error", "-y", "-i", clip.getPath(),
+                        "-vf", String.format(Locale.ROOT, "fps=%d,scale=%d:%d:flags=lanczos", (int) outputFps, width, height),
+                        "-c:v", "libwebp_anim", "-lossless", "0", "-q:v", String.valueOf(WEBP_QUALITY),
+                        "-compression_level", "6", "-loop", "0", "-an", output.getPath());
+            } else {
+                output = new File(rawDir, name);
+                copyData(clip, output, info.getDataBytes());
+                width = info.width;
+                height = info.height;
+                outputFps = info.framesPerSecond();
+            }
+            // Manifest values describe the clip the app actually ships
+            outputs.add(ClipProbe.read(output));
+            thumbnails.add(thumbnail(clip));
+
+            sourceTotal += info.bytes;
+            outputTotal += output.length();
+            rows.add(String.format(Locale.ROOT,
+                    "%-16s %8d %8d %5.0f%%  %4dx%-4d -> %4dx%-4d %4d %6d %5.1f -> %4.1f %7d -> %5d %7.1f -> %5.1f",
+                    base, info.bytes / 1024, output.length() / 1024, 100.0 * output.length() / info.bytes,
+                    info.width, info.height, width, height, info.frameCount, info.durationMillis,
+                    info.framesPerSecond(), outputFps,
+                    frameKb(info.width, info.height), frameKb(width, height),
+                    megapixelsPerSecond(info.width, info.height, info.framesPerSecond()),
+                    megapixelsPerSecond(width, height, outputFps)));
+        }
+
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(report), UTF_8))) {
+            out.println(transcode
+                    ? "Sign clips: GIF -> animated WebP (max " + maxSize + " px, " + fps + " fps, q" + WEBP_QUALITY + ")"
+                    : "Sign clips: GIFs copied untranscoded, padding trimmed (" + ffmpeg + " not found)");
+            out.println("clip              src KB   out KB  size   source       output    frames    ms"
+                    + "   fps src/out   frame KB src/out   Mpx/s src/out");
+            for (String row : rows) {
+                out.println(row);
+            }
+            out.println(String.format(Locale.ROOT, "total: %d clips, %d KB -> %d KB",
+                    rows.size(), sourceTotal / 1024, outputTotal / 1024));
+
+            out.println();
+            out.println("Signs without a clip (fingerspelled): " + (signClips.size() - clips.size())
+                    + " of " + signClips.size());
+            for (Map.Entry<String, String> sign : signClips.entrySet()) {
+                if (!clips.containsKey(sign.getKey())) {
+                    out.println("  " + sign.getValue());
+                }
+            }
+        }
+
+        List<String> names = new ArrayList<>(clips.keySet());
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(manifest))) {
+            writeManifest(names, outputs, thumbnails, out);
+        }
+        System.out.println("ClipTranscoder: " + rows.size() + " clips, " + sourceTotal / 1024 + " KB -> "
+                + outputTotal / 1024 + " KB (" + report + ")");
+        if (!transcode) {
+            System.err.println();
+            System.err.println("ClipTranscoder: WARNING: " + ffmpeg + " not found, sign clips were NOT transcoded.");
+            System.err.println("ClipTranscoder: WARNING: " + rows.size() + " GIF clips (" + outputTotal / 1024
+                    + " KB) are copied into res/raw as-is. Install ffmpeg or pass -PffmpegPath=<path>;");
+            System.err.println("ClipTranscoder: WARNING: release builds fail until the clips are transcoded.");
+            System.err.println();
+        }
+    }
+
+    static void writeManifest(List<String> names, List<ClipProbe> clips, List<byte[]> thumbnails,
+                              DataOutputStream out) throws IOException {
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        ByteArrayOutputStream images = new ByteArrayOutputStream();
+        int[] records = new int[names.size() * SignClipManifest.CLIP_INTS];
+        int r = 0;
+        for (int i = 0; i < names.size(); i++) {
+            byte[] name = names.get(i).getBytes(UTF_8);
+            ClipProbe clip = clips.get(i);
+            records[r++] = strings.size();
+            records[r++] = name.length;
+            strings.write(name, 0, name.length);
+            records[r++] = clip.frameCount;
+            records[r++] = clip.durationMillis;
+            records[r++] = clip.width;
+            records[r++] = clip.height;
+            records[r++] = (int) clip.bytes;
+            records[r++] = images.size();
+            records[r++] = thumbnails.get(i).length;
+            images.write(thumbnails.get(i), 0, thumbnails.get(i).length);
+        }
+
+        out.writeInt(SignClipManifest.MAGIC);
+        out.writeInt(SignClipManifest.VERSION);
+        out.writeInt(names.size());
+        out.writeInt(strings.size());
+        out.writeInt(images.size());
+        for (int value : records) {
+            out.writeInt(value);
+        }
+        strings.writeTo(out);
+        images.writeTo(out);
+    }
+
+    /**
+     * First frame scaled to fit THUMBNAIL_SIZE, as JPEG; empty if it cannot
+     * be rendered
+     */
+    private static byte[] thumbnail(File gif) throws IOException {
+        BufferedImage frame = ImageIO.read(gif);
+        if (frame == null) {
+            return new byte[0];
+        }
+        double scale = Math.min(1.0, (double) THUMBNAIL_SIZE / Math.max(frame.getWidth(), frame.getHeight()));
+        int width = Math.max(1, (int) Math.round(frame.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(frame.getHeight() * scale));
+
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        graphics.drawImage(frame.getScaledInstance(width, height, Image.SCALE_AREA_AVERAGING), 0, 0, null);
+        graphics.dispose();
+
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, "jpg", jpeg);
+        return jpeg.toByteArray();
+    }
+
+    /**
+     * Copy the first length bytes of a clip, dropping padding after its data
+     */
+    private static void copyData(File from, File to, long length) throws IOException {
+        try (InputStream in = new FileInputStream(from);
+             OutputStream out = new FileOutputStream(to)) {
+            byte[] chunk = new byte[8192];
+            long remaining = length;
+            int read;
+            while (remaining > 0 && (read = in.read(chunk, 0, (int) Math.min(chunk.length, remaining))) != -1) {
+                out.write(chunk, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    private static int even(double value) {
+        return Math.max(2, (int) Math.round(value / 2) * 2);
+    }
+
+    // ARGB_8888 frame buffer
+    private static long frameKb(int width, int height) {
+        return (long) width * height * 4 / 1024;
+    }
+
+    private static double megapixelsPerSecond(int width, int height, double fps) {
+        return width * (double) height * fps / 1e6;
+    }
+
+    private static boolean hasFfmpeg(String ffmpeg) throws InterruptedException {
+        try {
+            run(ffmpeg, "-v", "error", "-version");
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static void run(String... command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (InputStream in = process.getInputStream()) {
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                output.write(chunk, 0, read);
+            }
+        }
+        if (process.waitFor() != 0) {
+            throw new IOException(command[0] + " failed: " + new String(output.toByteArray(), UTF_8));
+        }
+    }
+
+    private static void mkdirs(File dir) throws IOException {
+        if (dir != null && !dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create " + dir);
+        }
+    }
+}
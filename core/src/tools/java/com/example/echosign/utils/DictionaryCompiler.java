@@ -0,0 +1,455 @@
+package com.example.echosign.utils;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Build-time compiler from the authored sign dictionary (CSV) to the binary
+ * asset read by BinaryDictionary. Run by the :core:compileSignDictionary
+ * Gradle task:
+ *   DictionaryCompiler <signs.csv> <signs.bin> [aliases.csv]
+ *
+ * CSV columns: word, category, description, usage, core (header row
+ * required, RFC 4180 quoting). core = 1 marks high-frequency signs that stay
+ * resident from startup; all others load with their category shard.
+ *
+ * Entries are sorted by gloss key, indexed by a case-folded hash table and
+ * grouped into a category index; the inflected forms of every word
+ * (Lemmatizer) get their own hashed index. Every string is stored once in a
+ * shared UTF-8 string table.
+ *
+ * Alias CSV columns: alias, target. A target may itself be an alias; chains
+ * are flattened here so every alias points straight at a sign, and cycles,
+ * unknown targets and aliases that shadow a sign are rejected. Aliases share
+ * the form index and win over generated inflections.
+ */
+public final class DictionaryCompiler {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String[] HEADER = {"word", "category", "description", "usage", "core"};
+    private static final String[] ALIAS_HEADER = {"alias", "target"};
+    private static final int CATEGORY_COLUMN = 1;
+    private static final int STRING_COLUMNS = 4;
+    private static final int CORE_COLUMN = 4;
+
+    private static final class Entry {
+        final String key;
+        final String[] fields;
+
+        Entry(String key, String[] fields) {
+            this.key = key;
+            this.fields = fields;
+        }
+    }
+
+    private DictionaryCompiler() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2 && args.length != 3) {
+            throw new IllegalArgumentException("Usage: DictionaryCompiler <signs.csv> <signs.bin> [aliases.csv]");
+        }
+
+        File output = new File(args[1]);
+        File parent = output.getParentFile();
+        if (parent != null && !parent.isDirectory() && !parent.mkdirs()) {
+            throw new IOException("Cannot create " + parent);
+        }
+
+        int count;
+        try (Reader in = new InputStreamReader(new FileInputStream(args[0]), UTF_8);
+             Reader aliases = args.length == 3
+                     ? new InputStreamReader(new FileInputStream(args[2]), UTF_8) : null;
+             OutputStream out = new FileOutputStream(output)) {
+            count = compile(in, aliases, out);
+        }
+        System.out.println("DictionaryCompiler: " + count + " signs -> " + output);
+    }
+
+    /**
+     * Compile CSV rows into the binary format; returns the number of signs
+     */
+    public static int compile(Reader csv, OutputStream out) throws IOException {
+        return compile(csv, null, out);
+    }
+
+    /**
+     * Compile CSV rows plus an optional alias CSV; returns the number of signs
+     */
+    public static int compile(Reader csv, Reader aliasCsv, OutputStream out) throws IOException {
+        List<String[]> rows = parseCsv(csv);
+        if (rows.isEmpty() || !isHeader(rows.get(0), HEADER)) {
+            throw new IllegalArgumentException("Missing header row: word,category,description,usage,core");
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        for (int line = 1; line < rows.size(); line++) {
+            String[] fields = rows.get(line);
+            if (fields.length == 1 && fields[0].isEmpty()) {
+                continue; // blank line
+            }
+            if (fields.length != HEADER.length) {
+                throw new IllegalArgumentException("Row " + (line + 1) + ": expected "
+                        + HEADER.length + " columns, found " + fields.length);
+            }
+
+            String key = ASLDictionary.toGlossKey(fields[0]);
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Row " + (line + 1) + ": empty word");
+            }
+            for (int i = 0; i < key.length(); i++) {
+                if (key.charAt(i) > 0x7f) {
+                    throw new IllegalArgumentException("Row " + (line + 1) + ": gloss key must be ASCII: " + key);
+                }
+            }
+            String core = fields[CORE_COLUMN].trim();
+            if (!core.isEmpty() && !core.equals("1")) {
+                throw new IllegalArgumentException("Row " + (line + 1) + ": core must be 1 or empty");
+            }
+            if (!keys.add(key)) {
+                throw new IllegalArgumentException("Row " + (line + 1) + ": duplicate sign " + key);
+            }
+            entries.add(new Entry(key, fields));
+        }
+
+        List<Entry> authored = new ArrayList<>(entries);
+        Collections.sort(entries, new Comparator<Entry>() {
+            @Override
+            public int compare(Entry a, Entry b) {
+                return a.key.compareTo(b.key);
+            }
+        });
+
+        Map<String, String> aliases = aliasCsv != null
+                ? flattenAliases(parseCsv(aliasCsv), keys)
+                : Collections.<String, String>emptyMap();
+
+        write(entries, authored, aliases, out);
+        return entries.size();
+    }
+
+    /**
+     * Alias -> sign key, with chains (THANKS -> THANK -> THANK YOU) resolved
+     */
+    static Map<String, String> flattenAliases(List<String[]> rows, Set<String> signKeys) {
+        if (rows.isEmpty() || !isHeader(rows.get(0), ALIAS_HEADER)) {
+            throw new IllegalArgumentException("Missing alias header row: alias,target");
+        }
+
+        Map<String, String> targets = new LinkedHashMap<>();
+        for (int line = 1; line < rows.size(); line++) {
+            String[] fields = rows.get(line);
+            if (fields.length == 1 && fields[0].isEmpty()) {
+                continue; // blank line
+            }
+            if (fields.length != ALIAS_HEADER.length) {
+                throw new IllegalArgumentException("Alias row " + (line + 1) + ": expected "
+                        + ALIAS_HEADER.length + " columns, found " + fields.length);
+            }
+
+            String alias = ASLDictionary.toGlossKey(fields[0]);
+            String target = ASLDictionary.toGlossKey(fields[1]);
+            if (alias.isEmpty() || target.isEmpty()) {
+                throw new IllegalArgumentException("Alias row " + (line + 1) + ": empty alias or target");
+            }
+            if (signKeys.contains(alias)) {
+                throw new IllegalArgumentException("Alias row " + (line + 1) + ": " + alias + " is already a sign");
+            }
+            if (targets.put(alias, target) != null) {
+                throw new IllegalArgumentException("Alias row " + (line + 1) + ": duplicate alias " + alias);
+            }
+        }
+
+        Map<String, String> flattened = new LinkedHashMap<>();
+        for (String alias : targets.keySet()) {
+            List<String> chain = new ArrayList<>();
+            String current = alias;
+            while (!signKeys.contains(current)) {
+                String resolved = flattened.get(current);
+                if (resolved != null) {
+                    current = resolved;
+                    break;
+                }
+                if (chain.contains(current)) {
+                    chain.add(current);
+                    throw new IllegalArgumentException("Alias cycle: " + join(chain));
+                }
+                chain.add(current);
+                current = targets.get(current);
+                if (current == null) {
+                    throw new IllegalArgumentException("Alias " + alias + " points to unknown sign "
+                            + chain.get(chain.size() - 1));
+                }
+            }
+            for (String link : chain) {
+                flattened.put(link, current);
+            }
+        }
+
+        // Authoring order
+        Map<String, String> ordered = new LinkedHashMap<>();
+        for (String alias : targets.keySet()) {
+            ordered.put(alias, flattened.get(alias));
+        }
+        return ordered;
+    }
+
+    private static String join(List<String> chain) {
+        StringBuilder joined = new StringBuilder();
+        for (String link : chain) {
+            if (joined.length() > 0) joined.append(" -> ");
+            joined.append(link);
+        }
+        return joined.toString();
+    }
+
+    private static void write(List<Entry> entries, List<Entry> authored, Map<String, String> aliases,
+                              OutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+        int[] records = new int[entries.size() * BinaryDictionary.RECORD_INTS];
+        List<Integer> phrases = new ArrayList<>();
+        List<Integer> core = new ArrayList<>();
+
+        // Category index: categories in authoring order, members by gloss key
+        Map<String, List<Integer>> categories = new LinkedHashMap<>();
+        for (Entry entry : authored) {
+            String category = entry.fields[CATEGORY_COLUMN];
+            if (!categories.containsKey(category)) {
+                categories.put(category, new ArrayList<Integer>());
+            }
+        }
+        List<String> categoryNames = new ArrayList<>(categories.keySet());
+
+        int r = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            Entry entry = entries.get(i);
+            r = strings.ref(entry.key, records, r);
+            for (int f = 0; f < STRING_COLUMNS; f++) {
+                r = strings.ref(entry.fields[f], records, r);
+            }
+
+            // Shard (category) and position within it
+            List<Integer> members = categories.get(entry.fields[CATEGORY_COLUMN]);
+            records[r++] = categoryNames.indexOf(entry.fields[CATEGORY_COLUMN]);
+            records[r++] = members.size();
+            members.add(i);
+
+            // Multi-word signs ("THANK YOU") feed the phrase matcher
+            if (entry.fields[0].length() != entry.key.length()) {
+                phrases.add(i);
+            }
+            if (!entry.fields[CORE_COLUMN].trim().isEmpty()) {
+                core.add(i);
+            }
+        }
+
+        // Linear-probing hash index over the gloss keys
+        List<String> keys = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            keys.add(entry.key);
+        }
+        int[] slots = hashSlots(keys);
+
+        // Aliases first, then inflected forms -> lemma sign; a real sign,
+        // an alias or an earlier lemma wins
+        final Set<String> signKeys = new HashSet<>(keys);
+        final Map<String, int[]> forms = new LinkedHashMap<>();
+        for (Map.Entry<String, String> alias : aliases.entrySet()) {
+            int record = Collections.binarySearch(keys, alias.getValue());
+            forms.put(alias.getKey(), new int[] {record, BinaryDictionary.KIND_ALIAS});
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            final int record = i;
+            Lemmatizer.inflect(entries.get(i).key, new Lemmatizer.Sink() {
+                @Override
+                public void accept(String form, int kind) {
+                    if (!signKeys.contains(form) && !forms.containsKey(form)) {
+                        forms.put(form, new int[] {record, kind});
+                    }
+                }
+            });
+        }
+        List<String> formKeys = new ArrayList<>(forms.keySet());
+        int[] formSlots = hashSlots(formKeys);
+        int[] formRecords = new int[forms.size() * BinaryDictionary.FORM_INTS];
+        int f = 0;
+        for (Map.Entry<String, int[]> form : forms.entrySet()) {
+            f = strings.ref(form.getKey(), formRecords, f);
+            formRecords[f++] = form.getValue()[0];
+            formRecords[f++] = form.getValue()[1];
+        }
+
+        int[] categoryRecords = new int[categories.size() * BinaryDictionary.CATEGORY_INTS];
+        int[] members = new int[entries.size()];
+        int c = 0;
+        int m = 0;
+        for (Map.Entry<String, List<Integer>> category : categories.entrySet()) {
+            c = strings.ref(category.getKey(), categoryRecords, c);
+            categoryRecords[c++] = m;
+            categoryRecords[c++] = category.getValue().size();
+            for (int member : category.getValue()) {
+                members[m++] = member;
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(BinaryDictionary.MAGIC);
+        data.writeInt(BinaryDictionary.VERSION);
+        data.writeInt(entries.size());
+        data.writeInt(phrases.size());
+        data.writeInt(core.size());
+        data.writeInt(slots.length);
+        data.writeInt(categories.size());
+        data.writeInt(forms.size());
+        data.writeInt(formSlots.length);
+        data.writeInt(strings.bytes.size());
+        for (int value : records) {
+            data.writeInt(value);
+        }
+        for (int phrase : phrases) {
+            data.writeInt(phrase);
+        }
+        for (int resident : core) {
+            data.writeInt(resident);
+        }
+        for (int slot : slots) {
+            data.writeInt(slot);
+        }
+        for (int value : categoryRecords) {
+            data.writeInt(value);
+        }
+        for (int member : members) {
+            data.writeInt(member);
+        }
+        for (int value : formRecords) {
+            data.writeInt(value);
+        }
+        for (int slot : formSlots) {
+            data.writeInt(slot);
+        }
+        strings.bytes.writeTo(data);
+        data.flush();
+    }
+
+    /**
+     * Open-addressing slots (index + 1, 0 = empty) over folded-hash keys
+     */
+    private static int[] hashSlots(List<String> keys) {
+        int[] slots = new int[BinaryDictionary.slotCount(keys.size())];
+        int mask = slots.length - 1;
+        for (int i = 0; i < keys.size(); i++) {
+            String key = keys.get(i);
+            int slot = FoldedKeyTable.hash(key, 0, key.length()) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+        return slots;
+    }
+
+    /**
+     * Deduplicated UTF-8 string table; references are (offset, length) in bytes
+     */
+    private static final class StringTable {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        final Map<String, Integer> offsets = new HashMap<>();
+
+        int ref(String value, int[] records, int r) {
+            byte[] encoded = value.getBytes(UTF_8);
+            Integer offset = offsets.get(value);
+            if (offset == null) {
+                offset = bytes.size();
+                bytes.write(encoded, 0, encoded.length);
+                offsets.put(value, offset);
+            }
+            records[r] = offset;
+            records[r + 1] = encoded.length;
+            return r + 2;
+        }
+    }
+
+    private static boolean isHeader(String[] row, String[] header) {
+        if (row.length != header.length) {
+            return false;
+        }
+        for (int i = 0; i < header.length; i++) {
+            if (!header[i].equalsIgnoreCase(row[i].trim())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Minimal RFC 4180 reader: quoted fields may contain commas, quotes ("")
+     * and line breaks
+     */
+    static List<String[]> parseCsv(Reader reader) throws IOException {
+        List<String[]> rows = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        BufferedReader in = new BufferedReader(reader);
+        boolean quoted = false;
+        boolean pending = false;
+
+        int c;
+        while ((c = in.read()) != -1) {
+            pending = true;
+            if (quoted) {
+                if (c == '"') {
+                    in.mark(1);
+                    if (in.read() == '"') {
+                        field.append('"');
+                    } else {
+                        in.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                field.setLength(0);
+                rows.add(fields.toArray(new String[0]));
+                fields.clear();
+                pending = false;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field in row " + (rows.size() + 1));
+        }
+        if (pending) {
+            fields.add(field.toString());
+            rows.add(fields.toArray(new String[0]));
+        }
+        return rows;
+    }
+}